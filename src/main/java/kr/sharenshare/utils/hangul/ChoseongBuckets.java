@@ -0,0 +1,244 @@
+package kr.sharenshare.utils.hangul;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * 첫 글자의 초성에 따라 ㄱ, ㄴ, ㄷ, ... ㅎ의 14개 묶음과 "기타"로 나눈 결과 (색인 페이지용)
+ * 쌍자음은 기본 자음 묶음에 넣음 (ㄲ -> ㄱ, ㄸ -> ㄷ, ㅃ -> ㅂ, ㅆ -> ㅅ, ㅉ -> ㅈ), 겹자음은 앞 자음 묶음에 넣음 (ㄳ -> ㄱ)
+ * 묶음 번호를 한 번 계산하고 계수 정렬로 배치하므로 묶음 안에서는 입력 순서가 유지되며, 병렬로도 나눌 수 있음
+ * 예: of(["나무", "가지", "까치", "apple"]).get(0) -> ["가지", "까치"]
+ */
+public final class ChoseongBuckets<T> {
+
+    /**
+     * 묶음 수 (14개 기본 자음 + 기타)
+     */
+    public static final int BUCKET_COUNT = 15;
+
+    /**
+     * 한글 자음으로 시작하지 않는 문자열의 묶음 번호
+     */
+    public static final int OTHER = 14;
+
+    private static final char[] LABELS = {
+            'ㄱ', 'ㄴ', 'ㄷ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅅ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 쌍자음과 기본 자음 쌍
+    private static final String DOUBLE_CONSONANT_FOLD = "ㄲㄱㄸㄷㅃㅂㅆㅅㅉㅈ";
+
+    // 초성 인덱스별 묶음 번호
+    private static final byte[] BUCKET_OF_CHOSEONG = new byte[HangulConstants.CHOSEONG_COUNT];
+
+    // 병렬 처리 시 한 조각의 최소 크기
+    private static final int MIN_CHUNK_SIZE = 8192;
+
+    static {
+        for (int i = 0; i < HangulConstants.CHOSEONG_COUNT; i++) {
+            char choseong = HangulConstants.CHOSEONG[i];
+            char base = choseong;
+            for (int f = 0; f < DOUBLE_CONSONANT_FOLD.length(); f += 2) {
+                if (DOUBLE_CONSONANT_FOLD.charAt(f) == choseong) {
+                    base = DOUBLE_CONSONANT_FOLD.charAt(f + 1);
+                }
+            }
+            int bucket = -1;
+            for (int b = 0; b < LABELS.length; b++) {
+                if (LABELS[b] == base) {
+                    bucket = b;
+                }
+            }
+            BUCKET_OF_CHOSEONG[i] = (byte) bucket;
+        }
+    }
+
+    private final Object[] items;
+    private final int[] offsets;
+
+    private ChoseongBuckets(Object[] items, int[] offsets) {
+        this.items = items;
+        this.offsets = offsets;
+    }
+
+    /**
+     * 문자열 목록을 묶음으로 나눔
+     */
+    public static <T extends CharSequence> ChoseongBuckets<T> of(List<T> items) {
+        return build(items.toArray(), Function.<CharSequence>identity(), false);
+    }
+
+    /**
+     * 문자열 배열을 묶음으로 나눔
+     */
+    public static <T extends CharSequence> ChoseongBuckets<T> of(T[] items) {
+        return build(items.clone(), Function.<CharSequence>identity(), false);
+    }
+
+    /**
+     * key로 얻은 문자열 기준으로 항목을 묶음으로 나눔
+     * 예: of(contacts, Contact::getName)
+     */
+    public static <T> ChoseongBuckets<T> of(List<T> items, Function<? super T, ? extends CharSequence> key) {
+        return build(items.toArray(), key, false);
+    }
+
+    /**
+     * key로 얻은 문자열 기준으로 항목을 여러 스레드에서 나눔 (결과는 of와 같음)
+     */
+    public static <T> ChoseongBuckets<T> ofParallel(List<T> items, Function<? super T, ? extends CharSequence> key) {
+        return build(items.toArray(), key, true);
+    }
+
+    /**
+     * 문자열이 들어갈 묶음 번호 (null이나 빈 문자열은 OTHER)
+     */
+    public static int bucketOf(CharSequence str) {
+        if (str == null || str.length() == 0) {
+            return OTHER;
+        }
+        char choseong = Hangul.choseongOf(str.charAt(0));
+        int choseongIndex = HangulConstants.getChoseongIndex(choseong);
+        if (choseongIndex < 0) {
+            // 겹자음(ㄳ, ㄺ 등)은 앞 자음 묶음에 넣음 (ChoseongFingerprint, HangulCollationKey와 같은 기준)
+            choseongIndex = HangulConstants.getChoseongIndex(HangulConstants.getDoubleJamoFirst(choseong));
+        }
+        return choseongIndex >= 0 ? BUCKET_OF_CHOSEONG[choseongIndex] : OTHER;
+    }
+
+    /**
+     * 묶음의 자음 (OTHER이면 '\0')
+     */
+    public static char label(int bucket) {
+        checkBucket(bucket);
+        return bucket == OTHER ? '\0' : LABELS[bucket];
+    }
+
+    /**
+     * 묶음에 속한 항목 (입력 순서 유지, 복사하지 않는 읽기 전용 목록)
+     */
+    public List<T> get(int bucket) {
+        checkBucket(bucket);
+        final int from = offsets[bucket];
+        final int size = offsets[bucket + 1] - from;
+        return new AbstractList<T>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public T get(int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+                }
+                return (T) items[from + index];
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * 묶음에 속한 항목 수
+     */
+    public int size(int bucket) {
+        checkBucket(bucket);
+        return offsets[bucket + 1] - offsets[bucket];
+    }
+
+    /**
+     * 전체 항목 수
+     */
+    public int size() {
+        return items.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ChoseongBuckets<T> build(final Object[] items,
+                                                final Function<? super T, ? extends CharSequence> key,
+                                                boolean parallel) {
+        final int n = items.length;
+        final int chunkCount = parallel
+                ? Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4, n / MIN_CHUNK_SIZE))
+                : 1;
+        final int chunkSize = (n + chunkCount - 1) / Math.max(chunkCount, 1);
+        final byte[] buckets = new byte[n];
+        final int[][] counts = new int[chunkCount][BUCKET_COUNT];
+
+        // 1단계: 조각마다 묶음 번호를 계산하고 개수를 셈
+        forEachChunk(chunkCount, parallel, new ChunkTask() {
+            @Override
+            void run(int chunk) {
+                int[] count = counts[chunk];
+                for (int i = chunk * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) {
+                    int bucket = bucketOf(key.apply((T) items[i]));
+                    buckets[i] = (byte) bucket;
+                    count[bucket]++;
+                }
+            }
+        });
+
+        // 묶음 순서, 같은 묶음 안에서는 조각 순서로 시작 위치를 정하므로 입력 순서가 유지됨
+        int[] offsets = new int[BUCKET_COUNT + 1];
+        final int[][] cursors = new int[chunkCount][BUCKET_COUNT];
+        int pos = 0;
+        for (int b = 0; b < BUCKET_COUNT; b++) {
+            offsets[b] = pos;
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                cursors[chunk][b] = pos;
+                pos += counts[chunk][b];
+            }
+        }
+        offsets[BUCKET_COUNT] = pos;
+
+        // 2단계: 각 조각이 자기 구간에 배치
+        final Object[] sorted = new Object[n];
+        forEachChunk(chunkCount, parallel, new ChunkTask() {
+            @Override
+            void run(int chunk) {
+                int[] cursor = cursors[chunk];
+                for (int i = chunk * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) {
+                    sorted[cursor[buckets[i]]++] = items[i];
+                }
+            }
+        });
+        return new ChoseongBuckets<T>(sorted, offsets);
+    }
+
+    /**
+     * 조각마다 task를 실행 (parallel이면 공용 ForkJoinPool에서 동시에 실행하고 모두 끝날 때까지 기다림)
+     */
+    private static void forEachChunk(int chunkCount, boolean parallel, final ChunkTask task) {
+        if (!parallel || chunkCount == 1) {
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                task.run(chunk);
+            }
+            return;
+        }
+        List<RecursiveAction> actions = new ArrayList<RecursiveAction>(chunkCount);
+        for (int c = 0; c < chunkCount; c++) {
+            final int chunk = c;
+            actions.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    task.run(chunk);
+                }
+            });
+        }
+        ForkJoinTask.invokeAll(actions);
+    }
+
+    private abstract static class ChunkTask {
+        abstract void run(int chunk);
+    }
+
+    private static void checkBucket(int bucket) {
+        if (bucket < 0 || bucket >= BUCKET_COUNT) {
+            throw new IllegalArgumentException("Invalid bucket: " + bucket);
+        }
+    }
+}
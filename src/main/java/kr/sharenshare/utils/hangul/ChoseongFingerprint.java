@@ -0,0 +1,108 @@
+package kr.sharenshare.utils.hangul;
+
+/**
+ * 앞 12글자의 초성을 long 하나에 5비트씩 담은 지문
+ * 첫 글자가 가장 높은 자리에 오므로 long 비교가 초성 순서와 같고, 초성 접두사 확인은 마스크와 비교 한 번으로 끝남
+ * 글자별 코드 (글자 종류의 순서는 HangulCollationKey와 같음: 한글이 아닌 문자 < 자음과 음절 < 모음)
+ * - 0: 문자열 끝
+ * - 1: 한글이 아닌 문자
+ * - 2~20: HangulConstants.CHOSEONG 인덱스 + 2 (한글 완성형과 자음, 겹자음은 앞 자음 기준)
+ * - 31: 모음 (호환 자모)
+ * 코드가 다른 두 글자는 HangulCollationKey에서도 같은 방향으로 정렬됨
+ * 12글자를 넘는 부분과 코드가 같은 문자끼리는 구분하지 않으므로 정확한 결과가 필요하면 후보를 다시 확인
+ * 예: of("홍길동") -> ㅎ, ㄱ, ㄷ 코드, hasPrefix(of("홍길동"), of("ㅎㄱ")) -> true
+ */
+public final class ChoseongFingerprint {
+
+    /**
+     * 지문에 담는 최대 글자 수
+     */
+    public static final int MAX_LENGTH = 12;
+
+    public static final int END = 0;
+    public static final int NON_HANGUL = 1;
+    public static final int VOWEL = 31;
+
+    // 초성 인덱스에 더하는 값
+    private static final int CHOSEONG_BASE = 2;
+
+    private static final int BITS = 5;
+    private static final int CODE_MASK = (1 << BITS) - 1;
+    private static final int TOP_SHIFT = BITS * (MAX_LENGTH - 1);
+
+    private ChoseongFingerprint() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+
+    /**
+     * 문자열의 초성 지문
+     */
+    public static long of(CharSequence str) {
+        long fingerprint = 0L;
+        int n = Math.min(str.length(), MAX_LENGTH);
+        for (int i = 0; i < n; i++) {
+            fingerprint |= (long) code(str.charAt(i)) << (TOP_SHIFT - BITS * i);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * 앞 length글자의 코드 자리를 덮는 마스크
+     */
+    public static long mask(int length) {
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Invalid length: " + length);
+        }
+        if (length == 0) {
+            return 0L;
+        }
+        long all = (1L << (BITS * MAX_LENGTH)) - 1;
+        return all & ~((1L << (BITS * (MAX_LENGTH - length))) - 1);
+    }
+
+    /**
+     * fingerprint가 prefix 지문으로 시작하는지 확인
+     */
+    public static boolean hasPrefix(long fingerprint, long prefix) {
+        return (fingerprint & mask(length(prefix))) == prefix;
+    }
+
+    /**
+     * 지문에 담긴 글자 수 (12글자까지)
+     */
+    public static int length(long fingerprint) {
+        int length = 0;
+        while (length < MAX_LENGTH && codeAt(fingerprint, length) != END) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * index번째 글자의 코드
+     */
+    public static int codeAt(long fingerprint, int index) {
+        if (index < 0 || index >= MAX_LENGTH) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return (int) (fingerprint >>> (TOP_SHIFT - BITS * index)) & CODE_MASK;
+    }
+
+    /**
+     * 문자 하나의 코드
+     */
+    public static int code(char c) {
+        int choseongIndex = HangulConstants.getChoseongIndex(Hangul.choseongOf(c));
+        if (choseongIndex >= 0) {
+            return CHOSEONG_BASE + choseongIndex;
+        }
+        if (!Hangul.isCompatJamo(c)) {
+            return NON_HANGUL;
+        }
+        if (HangulConstants.getJungseongIndex(c) >= 0) {
+            return VOWEL;
+        }
+        // 겹자음은 HangulCollationKey와 같이 앞 자음 묶음
+        return CHOSEONG_BASE + HangulConstants.getChoseongIndex(HangulConstants.getDoubleJamoFirst(c));
+    }
+}
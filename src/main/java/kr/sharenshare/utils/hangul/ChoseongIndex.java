@@ -0,0 +1,299 @@
+package kr.sharenshare.utils.hangul;
+
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 대량의 문서에서 초성 검색을 하기 위한 역색인
+ * 각 문서의 초성(Hangul.getChoseong) 1-gram, 2-gram, 3-gram마다 그 gram을 포함하는 문서 번호 목록을 int 배열로 저장
+ * 검색어의 gram 중 가장 드문 목록부터 교집합을 구한 뒤 저장해 둔 초성 문자열로 확인하므로 결과는 Hangul.choseongIncludes와 같음
+ * 문서 번호는 build에 넘긴 목록의 인덱스
+ * 불변 객체이므로 여러 스레드에서 공유 가능
+ * 예: ChoseongIndex.build(Arrays.asList("사과", "바나나", "수박")).search("ㅂㄴ") -> [1]
+ */
+public final class ChoseongIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    // 모든 문서의 초성을 이어 붙인 문자열과 문서별 시작 위치 (documentCount + 1개)
+    // 버퍼로 읽으므로 힙 배열과 HangulIndexFile로 매핑한 파일을 같은 코드로 검색
+    final CharBuffer text;
+    final IntBuffer documentOffsets;
+    // 정렬된 gram 키, gram별 postings 시작 위치 (gramCount + 1개), 문서 번호 목록
+    final LongBuffer gramKeys;
+    final IntBuffer postingOffsets;
+    final IntBuffer postings;
+
+    ChoseongIndex(CharBuffer text, IntBuffer documentOffsets, LongBuffer gramKeys, IntBuffer postingOffsets, IntBuffer postings) {
+        this.text = text;
+        this.documentOffsets = documentOffsets;
+        this.gramKeys = gramKeys;
+        this.postingOffsets = postingOffsets;
+        this.postings = postings;
+    }
+
+    /**
+     * 문서 목록으로 색인 생성
+     */
+    public static ChoseongIndex build(List<? extends CharSequence> documents) {
+        if (documents == null) {
+            throw new IllegalArgumentException("documents is null");
+        }
+        int documentCount = documents.size();
+        int[] documentOffsets = new int[documentCount + 1];
+        long total = 0;
+        for (CharSequence document : documents) {
+            if (document == null) {
+                throw new IllegalArgumentException("document is null");
+            }
+            total += document.length();
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Total length exceeds " + Integer.MAX_VALUE);
+        }
+        char[] text = new char[(int) total];
+        int pos = 0;
+        for (int d = 0; d < documentCount; d++) {
+            documentOffsets[d] = pos;
+            pos += Hangul.getChoseong(documents.get(d), text, pos);
+        }
+        documentOffsets[documentCount] = pos;
+
+        // 1단계: gram마다 번호를 매기고 포함하는 문서 수를 셈
+        LongIntHashMap gramIds = new LongIntHashMap(1024);
+        long[] keys = new long[1024];
+        int[] counts = new int[1024];
+        int[] lastDocument = new int[1024];
+        for (int d = 0; d < documentCount; d++) {
+            int end = documentOffsets[d + 1];
+            for (int i = documentOffsets[d]; i < end; i++) {
+                for (int n = 1; n <= 3 && i + n <= end; n++) {
+                    long key = gramKey(text, i, n);
+                    int id = gramIds.get(key);
+                    if (id < 0) {
+                        id = gramIds.size();
+                        gramIds.put(key, id);
+                        if (id == keys.length) {
+                            keys = Arrays.copyOf(keys, id * 2);
+                            counts = Arrays.copyOf(counts, id * 2);
+                            lastDocument = Arrays.copyOf(lastDocument, id * 2);
+                        }
+                        keys[id] = key;
+                        lastDocument[id] = -1;
+                    }
+                    if (lastDocument[id] != d) {
+                        lastDocument[id] = d;
+                        counts[id]++;
+                    }
+                }
+            }
+        }
+
+        // gram 키를 정렬하고 정렬 순서대로 postings 구간을 배정
+        int gramCount = gramIds.size();
+        long[] gramKeys = Arrays.copyOf(keys, gramCount);
+        Arrays.sort(gramKeys);
+        int[] postingOffsets = new int[gramCount + 1];
+        int[] cursor = new int[gramCount];
+        for (int g = 0; g < gramCount; g++) {
+            int id = gramIds.get(gramKeys[g]);
+            cursor[id] = postingOffsets[g];
+            postingOffsets[g + 1] = postingOffsets[g] + counts[id];
+        }
+
+        // 2단계: 문서 번호를 오름차순으로 채움
+        int[] postings = new int[postingOffsets[gramCount]];
+        Arrays.fill(lastDocument, 0, gramCount, -1);
+        for (int d = 0; d < documentCount; d++) {
+            int end = documentOffsets[d + 1];
+            for (int i = documentOffsets[d]; i < end; i++) {
+                for (int n = 1; n <= 3 && i + n <= end; n++) {
+                    int id = gramIds.get(gramKey(text, i, n));
+                    if (lastDocument[id] != d) {
+                        lastDocument[id] = d;
+                        postings[cursor[id]++] = d;
+                    }
+                }
+            }
+        }
+        return new ChoseongIndex(CharBuffer.wrap(text), IntBuffer.wrap(documentOffsets), LongBuffer.wrap(gramKeys),
+                IntBuffer.wrap(postingOffsets), IntBuffer.wrap(postings));
+    }
+
+    /**
+     * 초성이 검색어를 포함하는 문서 번호를 오름차순으로 반환
+     */
+    public int[] search(CharSequence choseong) {
+        return search(choseong, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 초성이 검색어를 포함하는 문서 번호를 오름차순으로 최대 limit개 반환
+     */
+    public int[] search(CharSequence choseong, int limit) {
+        if (choseong == null) {
+            throw new IllegalArgumentException("choseong is null");
+        }
+        if (limit <= 0) {
+            return EMPTY;
+        }
+        int m = choseong.length();
+        if (m == 0) {
+            // 빈 검색어는 모든 문서에 포함됨
+            int[] result = new int[Math.min(limit, size())];
+            for (int d = 0; d < result.length; d++) {
+                result[d] = d;
+            }
+            return result;
+        }
+        if (m <= 3) {
+            // gram 하나가 검색어 전체이므로 확인 없이 목록이 곧 결과
+            int g = findGram(gramKey(choseong, 0, m));
+            if (g < 0) {
+                return EMPTY;
+            }
+            return copyPostings(postingOffsets.get(g), Math.min(limit, postingLength(g)));
+        }
+
+        // 검색어의 모든 3-gram 목록을 찾고 가장 짧은 목록을 기준으로 삼음
+        int gramCount = m - 2;
+        int[] lists = new int[gramCount];
+        int rarest = 0;
+        for (int i = 0; i < gramCount; i++) {
+            int g = findGram(gramKey(choseong, i, 3));
+            if (g < 0) {
+                return EMPTY;
+            }
+            lists[i] = g;
+            if (postingLength(g) < postingLength(lists[rarest])) {
+                rarest = i;
+            }
+        }
+        int[] lower = new int[gramCount];
+        for (int i = 0; i < gramCount; i++) {
+            lower[i] = postingOffsets.get(lists[i]);
+        }
+
+        int[] result = new int[Math.min(limit, postingLength(lists[rarest]))];
+        int count = 0;
+        for (int p = postingOffsets.get(lists[rarest]), end = postingOffsets.get(lists[rarest] + 1); p < end && count < result.length; p++) {
+            int document = postings.get(p);
+            if (containsAll(lists, lower, rarest, document) && contains(document, choseong)) {
+                result[count++] = document;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 색인한 문서 수
+     */
+    public int size() {
+        return documentOffsets.limit() - 1;
+    }
+
+    /**
+     * 다른 목록에도 문서가 있는지 확인
+     * 기준 목록을 오름차순으로 훑으므로 각 목록의 탐색 시작 위치(lower)를 앞으로만 옮김
+     */
+    private boolean containsAll(int[] lists, int[] lower, int skip, int document) {
+        for (int i = 0; i < lists.length; i++) {
+            if (i == skip) {
+                continue;
+            }
+            int to = postingOffsets.get(lists[i] + 1);
+            int index = binarySearch(postings, lower[i], to, document);
+            if (index < 0) {
+                lower[i] = -index - 1;
+                return false;
+            }
+            lower[i] = index + 1;
+        }
+        return true;
+    }
+
+    private boolean contains(int document, CharSequence choseong) {
+        int m = choseong.length();
+        for (int i = documentOffsets.get(document), last = documentOffsets.get(document + 1) - m; i <= last; i++) {
+            int j = 0;
+            while (j < m && text.get(i + j) == choseong.charAt(j)) {
+                j++;
+            }
+            if (j == m) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int postingLength(int gram) {
+        return postingOffsets.get(gram + 1) - postingOffsets.get(gram);
+    }
+
+    private int findGram(long key) {
+        int lo = 0;
+        int hi = gramKeys.limit() - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            long midKey = gramKeys.get(mid);
+            if (midKey < key) {
+                lo = mid + 1;
+            } else if (midKey > key) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int[] copyPostings(int from, int length) {
+        int[] result = new int[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = postings.get(from + i);
+        }
+        return result;
+    }
+
+    /**
+     * Arrays.binarySearch와 같은 규칙 (없으면 -(삽입 위치) - 1)
+     */
+    private static int binarySearch(IntBuffer buffer, int from, int to, int value) {
+        int lo = from;
+        int hi = to - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int midValue = buffer.get(mid);
+            if (midValue < value) {
+                lo = mid + 1;
+            } else if (midValue > value) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(lo + 1);
+    }
+
+    /**
+     * n개 문자를 16비트씩 이어 붙이고 길이를 상위 비트에 둔 gram 키
+     */
+    private static long gramKey(char[] text, int start, int n) {
+        long key = n;
+        for (int i = start; i < start + n; i++) {
+            key = (key << 16) | text[i];
+        }
+        return key;
+    }
+
+    private static long gramKey(CharSequence text, int start, int n) {
+        long key = n;
+        for (int i = start; i < start + n; i++) {
+            key = (key << 16) | text.charAt(i);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,118 @@
+package kr.sharenshare.utils.hangul;
+
+/**
+ * 미리 컴파일해 두고 여러 문자열에 반복해서 쓰는 초성 검색 패턴
+ * 대상 문자열의 한글 완성형을 읽는 즉시 초성으로 바꾸어 KMP 실패 함수로 비교하므로 초성 문자열을 만들지 않고,
+ * 일치를 찾거나 남은 길이가 부족해지면 바로 종료
+ * 불변 객체이므로 여러 스레드에서 공유 가능
+ * 예: ChoseongPattern.compile("ㅅㄱ").find("맛있는 사과") -> 4
+ */
+public final class ChoseongPattern {
+
+    private final char[] pattern;
+    // failure[j]: pattern[0..j]의 접두사이면서 접미사인 가장 긴 문자열의 길이
+    private final int[] failure;
+
+    private ChoseongPattern(char[] pattern) {
+        this.pattern = pattern;
+        this.failure = new int[pattern.length];
+        for (int j = 1, k = 0; j < pattern.length; j++) {
+            while (k > 0 && pattern[j] != pattern[k]) {
+                k = failure[k - 1];
+            }
+            if (pattern[j] == pattern[k]) {
+                k++;
+            }
+            failure[j] = k;
+        }
+    }
+
+    /**
+     * 초성 문자열을 패턴으로 컴파일
+     * 한글 완성형이 아닌 문자는 대상 문자열의 같은 문자와 일치
+     */
+    public static ChoseongPattern compile(CharSequence choseong) {
+        if (choseong == null) {
+            throw new IllegalArgumentException("choseong is null");
+        }
+        char[] pattern = new char[choseong.length()];
+        for (int i = 0; i < pattern.length; i++) {
+            pattern[i] = choseong.charAt(i);
+        }
+        return new ChoseongPattern(pattern);
+    }
+
+    /**
+     * 초성이 패턴과 일치하는 첫 위치를 반환 (없으면 -1)
+     */
+    public int find(CharSequence text) {
+        return find(text, 0, text.length());
+    }
+
+    /**
+     * text의 [start, end) 범위에서 초성이 패턴과 일치하는 첫 위치를 반환 (없으면 -1)
+     */
+    public int find(CharSequence text, int start, int end) {
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + text.length());
+        }
+        int m = pattern.length;
+        if (m == 0) {
+            return start;
+        }
+        int j = 0;
+        for (int i = start; i < end; i++) {
+            // 남은 문자로 패턴을 채울 수 없으면 종료
+            if (end - i < m - j) {
+                return -1;
+            }
+            char c = Hangul.choseongOf(text.charAt(i));
+            while (j > 0 && c != pattern[j]) {
+                j = failure[j - 1];
+            }
+            if (c == pattern[j] && ++j == m) {
+                return i - m + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 초성이 패턴을 포함하는지 확인
+     * 예: compile("ㅅㄱ").includedIn("사과") -> true
+     */
+    public boolean includedIn(CharSequence text) {
+        return find(text, 0, text.length()) >= 0;
+    }
+
+    /**
+     * 패턴 길이
+     */
+    public int length() {
+        return pattern.length;
+    }
+
+    @Override
+    public String toString() {
+        return new String(pattern);
+    }
+
+    /**
+     * 패턴을 컴파일하지 않고 한 번만 검색 (Hangul.choseongIncludes 용)
+     * 짧은 초성 검색어에서는 실패 함수를 만드는 비용보다 단순 비교가 빠름
+     */
+    static int indexOf(CharSequence text, CharSequence choseong) {
+        int n = text.length();
+        int m = choseong.length();
+        for (int i = 0, last = n - m; i <= last; i++) {
+            int j = 0;
+            while (j < m && Hangul.choseongOf(text.charAt(i + j)) == choseong.charAt(j)) {
+                j++;
+            }
+            if (j == m) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
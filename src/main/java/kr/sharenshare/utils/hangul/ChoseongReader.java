@@ -0,0 +1,32 @@
+package kr.sharenshare.utils.hangul;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 읽어 들이는 문자열에서 한글 완성형을 초성으로 바꾸는 Reader
+ * 한 글자가 한 글자로 바뀌므로 별도 버퍼 없이 호출자의 배열에서 바로 변환
+ * 예: new ChoseongReader(new StringReader("사과 12")) -> "ㅅㄱ 12"
+ */
+public class ChoseongReader extends FilterReader {
+
+    public ChoseongReader(Reader in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int c = in.read();
+        return c < 0 ? c : Hangul.choseongOf((char) c);
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        int n = in.read(cbuf, off, len);
+        for (int i = off, end = off + n; i < end; i++) {
+            cbuf[i] = Hangul.choseongOf(cbuf[i]);
+        }
+        return n;
+    }
+}
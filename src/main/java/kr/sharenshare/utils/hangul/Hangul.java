@@ -1,6 +1,8 @@
 package kr.sharenshare.utils.hangul;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -42,24 +44,92 @@ public final class Hangul {
         return c >= HangulConstants.COMPAT_JAMO_START && c <= HangulConstants.COMPAT_JAMO_END;
     }
 
+    // 완성형 음절별 초성/중성/종성 인덱스 (초성 << 10 | 중성 << 5 | 종성)
+    private static final char[] DECOMPOSITION_TABLE;
+    // 중성 인덱스별 분해 문자열 (겹모음은 두 글자)
+    private static final String[] JUNGSEONG_DISASSEMBLED;
+    // 종성 인덱스별 분해 문자열 (겹받침은 두 글자, 받침 없음은 빈 문자열)
+    private static final String[] JONGSEONG_DISASSEMBLED;
+    // 호환 자모별 분해 문자열 (겹자음, 겹모음은 두 글자)
+    private static final String[] COMPAT_JAMO_DISASSEMBLED;
+
+    static {
+        int syllableCount = HangulConstants.HANGUL_END - HangulConstants.HANGUL_START + 1;
+        int jungJongCount = HangulConstants.JUNGSEONG_COUNT * HangulConstants.JONGSEONG_COUNT;
+        DECOMPOSITION_TABLE = new char[syllableCount];
+        for (int code = 0; code < syllableCount; code++) {
+            int choseongIndex = code / jungJongCount;
+            int jungseongIndex = (code % jungJongCount) / HangulConstants.JONGSEONG_COUNT;
+            int jongseongIndex = code % HangulConstants.JONGSEONG_COUNT;
+            DECOMPOSITION_TABLE[code] = (char) ((choseongIndex << 10) | (jungseongIndex << 5) | jongseongIndex);
+        }
+
+        JUNGSEONG_DISASSEMBLED = new String[HangulConstants.JUNGSEONG_COUNT];
+        for (int i = 0; i < HangulConstants.JUNGSEONG_COUNT; i++) {
+            JUNGSEONG_DISASSEMBLED[i] = disassembleJamo(HangulConstants.JUNGSEONG[i]);
+        }
+
+        JONGSEONG_DISASSEMBLED = new String[HangulConstants.JONGSEONG_COUNT];
+        JONGSEONG_DISASSEMBLED[0] = "";
+        for (int i = 1; i < HangulConstants.JONGSEONG_COUNT; i++) {
+            JONGSEONG_DISASSEMBLED[i] = disassembleJamo(HangulConstants.JONGSEONG[i]);
+        }
+
+        COMPAT_JAMO_DISASSEMBLED = new String[HangulConstants.COMPAT_JAMO_END - HangulConstants.COMPAT_JAMO_START + 1];
+        for (char c = HangulConstants.COMPAT_JAMO_START; c <= HangulConstants.COMPAT_JAMO_END; c++) {
+            COMPAT_JAMO_DISASSEMBLED[c - HangulConstants.COMPAT_JAMO_START] = disassembleJamo(c);
+        }
+    }
+
+    /**
+     * 한글 완성형 문자를 초성/중성/종성 인덱스로 분해하여 하나의 int로 반환
+     * (초성 << 10 | 중성 << 5 | 종성), 한글 완성형이 아니면 -1
+     * 객체를 생성하지 않으므로 대량 처리 시 disassembleCompleteCharacter 대신 사용
+     */
+    public static int decomposePacked(char c) {
+        if (!isHangul(c)) {
+            return -1;
+        }
+        return DECOMPOSITION_TABLE[c - HangulConstants.HANGUL_START];
+    }
+
+    /**
+     * decomposePacked 결과에서 초성 인덱스 추출 (HangulConstants.CHOSEONG 기준)
+     */
+    public static int packedChoseongIndex(int packed) {
+        return packed >>> 10;
+    }
+
+    /**
+     * decomposePacked 결과에서 중성 인덱스 추출 (HangulConstants.JUNGSEONG 기준)
+     */
+    public static int packedJungseongIndex(int packed) {
+        return (packed >>> 5) & 0x1F;
+    }
+
+    /**
+     * decomposePacked 결과에서 종성 인덱스 추출 (HangulConstants.JONGSEONG 기준, 받침 없음은 0)
+     */
+    public static int packedJongseongIndex(int packed) {
+        return packed & 0x1F;
+    }
+
+    /**
+     * decomposePacked 결과를 다시 한글 완성형 문자로 조합
+     */
+    public static char assemblePacked(int packed) {
+        return assemble(packedChoseongIndex(packed), packedJungseongIndex(packed), packedJongseongIndex(packed));
+    }
+
     /**
      * 한글 완성형 문자 분해 (초성, 중성, 종성)
+     * 음절별로 공유되는 불변 인스턴스를 반환하므로 호출마다 객체를 생성하지 않음
      */
     public static HangulChar disassembleCompleteCharacter(char c) {
         if (!isHangul(c)) {
             return null;
         }
-
-        int code = c - HangulConstants.HANGUL_START;
-        int choseongIndex = code / (HangulConstants.JUNGSEONG_COUNT * HangulConstants.JONGSEONG_COUNT);
-        int jungseongIndex = (code % (HangulConstants.JUNGSEONG_COUNT * HangulConstants.JONGSEONG_COUNT)) / HangulConstants.JONGSEONG_COUNT;
-        int jongseongIndex = code % HangulConstants.JONGSEONG_COUNT;
-
-        return new HangulChar(
-                HangulConstants.CHOSEONG[choseongIndex],
-                HangulConstants.JUNGSEONG[jungseongIndex],
-                jongseongIndex > 0 ? HangulConstants.JONGSEONG[jongseongIndex] : null
-        );
+        return HangulChar.of(c);
     }
 
     /**
@@ -67,17 +137,11 @@ public final class Hangul {
      * 예: '값' -> "ㅂㅅ", '박' -> "ㄱ", '가' -> ""
      */
     public static String getJongseongAsString(char c) {
-        HangulChar hc = disassembleCompleteCharacter(c);
-        if (hc == null || hc.getJongseong() == null) {
+        int packed = decomposePacked(c);
+        if (packed < 0) {
             return "";
         }
-        Character jongseongChar = hc.getJongseong();
-        // 겹받침인 경우 분해
-        String decomposed = HangulConstants.DOUBLE_CONSONANT_MAP.get(jongseongChar);
-        if (decomposed != null) {
-            return decomposed;
-        }
-        return String.valueOf(jongseongChar);
+        return JONGSEONG_DISASSEMBLED[packedJongseongIndex(packed)];
     }
 
     /**
@@ -96,64 +160,139 @@ public final class Hangul {
         if (str == null || str.isEmpty()) {
             return str;
         }
+        return disassemble(str, new StringBuilder(str.length() * 3)).toString();
+    }
 
-        StringBuilder sb = new StringBuilder();
-        for (char c : str.toCharArray()) {
-            if (isHangul(c)) {
-                HangulChar hangulChar = disassembleCompleteCharacter(c);
-                if (hangulChar != null) {
-                    // 초성은 쌍자음도 분해하지 않음
-                    sb.append(hangulChar.getChoseong());
-                    // 중성은 겹모음 분해
-                    sb.append(disassembleVowel(hangulChar.getJungseong()));
-                    // 종성은 겹자음 분해 (쌍자음 포함)
-                    if (hangulChar.getJongseong() != null) {
-                        sb.append(disassembleConsonant(hangulChar.getJongseong()));
-                    }
-                }
+    /**
+     * 한글 문자열을 자모로 분해하여 out에 추가
+     * 버퍼를 재사용할 수 있도록 out을 그대로 반환
+     */
+    public static StringBuilder disassemble(CharSequence str, StringBuilder out) {
+        try {
+            disassemble(str, (Appendable) out);
+        } catch (IOException e) {
+            // StringBuilder는 IOException을 던지지 않음
+            throw new IllegalStateException(e);
+        }
+        return out;
+    }
+
+    /**
+     * 한글 문자열을 자모로 분해하여 out에 추가
+     */
+    public static Appendable disassemble(CharSequence str, Appendable out) throws IOException {
+        if (str == null) {
+            return out;
+        }
+        for (int i = 0, len = str.length(); i < len; i++) {
+            char c = str.charAt(i);
+            int packed = decomposePacked(c);
+            if (packed >= 0) {
+                // 초성은 쌍자음도 분해하지 않음
+                out.append(HangulConstants.CHOSEONG[packedChoseongIndex(packed)]);
+                // 중성은 겹모음 분해
+                out.append(JUNGSEONG_DISASSEMBLED[packedJungseongIndex(packed)]);
+                // 종성은 겹자음 분해 (받침 없으면 빈 문자열)
+                out.append(JONGSEONG_DISASSEMBLED[packedJongseongIndex(packed)]);
             } else if (isCompatJamo(c)) {
                 // 호환 자모는 겹자음/겹모음 분해
-                sb.append(disassembleJamo(c));
+                out.append(COMPAT_JAMO_DISASSEMBLED[c - HangulConstants.COMPAT_JAMO_START]);
             } else {
-                sb.append(c);
+                out.append(c);
             }
         }
-        return sb.toString();
+        return out;
     }
 
     /**
-     * 자음을 분해 (겹자음만, 쌍자음은 분해하지 않음)
+     * 한글 문자열을 자모로 분해하여 dst의 dstOffset 위치부터 기록하고 기록한 문자 수를 반환
+     * 한 글자는 최대 5개의 자모로 분해되므로 dst에는 str.length() * 5 만큼의 여유가 필요
      */
-    private static String disassembleConsonant(char c) {
-        String doubleConsonant = HangulConstants.DOUBLE_CONSONANT_MAP.get(c);
-        if (doubleConsonant != null) {
-            return doubleConsonant;
+    public static int disassemble(CharSequence str, char[] dst, int dstOffset) {
+        if (str == null) {
+            return 0;
         }
-        return String.valueOf(c);
+        int pos = dstOffset;
+        for (int i = 0, len = str.length(); i < len; i++) {
+            pos = disassemble(str.charAt(i), dst, pos);
+        }
+        return pos - dstOffset;
     }
 
     /**
-     * 모음을 분해 (겹모음)
+     * disassemble(str, dst, dstOffset)과 같이 기록하면서 sourceIndexes의 같은 위치에 각 자모가 나온 str의 위치를 기록
+     * 예: "닭이" -> dst "ㄷㅏㄹㄱㅇㅣ", sourceIndexes [0, 0, 0, 0, 1, 1]
      */
-    private static String disassembleVowel(char c) {
-        String doubleVowel = HangulConstants.DOUBLE_VOWEL_MAP.get(c);
-        if (doubleVowel != null) {
-            return doubleVowel;
+    public static int disassemble(CharSequence str, char[] dst, int dstOffset, int[] sourceIndexes) {
+        if (str == null) {
+            return 0;
         }
-        return String.valueOf(c);
+        int pos = dstOffset;
+        for (int i = 0, len = str.length(); i < len; i++) {
+            int end = disassemble(str.charAt(i), dst, pos);
+            while (pos < end) {
+                sourceIndexes[pos++] = i;
+            }
+        }
+        return pos - dstOffset;
+    }
+
+    /**
+     * 자모로 분해하면서 자모별 원문 위치를 함께 반환
+     * 예: disassembleWithOffsets("닭이").sourceIndex(4) -> 1
+     */
+    public static ProjectedText disassembleWithOffsets(String str) {
+        if (str == null) {
+            throw new IllegalArgumentException("str is null");
+        }
+        char[] dst = new char[str.length() * 5];
+        int[] sourceIndexes = new int[dst.length];
+        int len = disassemble(str, dst, 0, sourceIndexes);
+        return new ProjectedText(str, new String(dst, 0, len), Arrays.copyOf(sourceIndexes, len));
+    }
+
+    /**
+     * 문자 하나를 분해하여 dst의 pos 위치부터 기록하고 기록을 마친 다음 위치를 반환 (최대 5자)
+     */
+    static int disassemble(char c, char[] dst, int pos) {
+        int packed = decomposePacked(c);
+        if (packed >= 0) {
+            dst[pos++] = HangulConstants.CHOSEONG[packedChoseongIndex(packed)];
+            pos = copyTo(JUNGSEONG_DISASSEMBLED[packedJungseongIndex(packed)], dst, pos);
+            return copyTo(JONGSEONG_DISASSEMBLED[packedJongseongIndex(packed)], dst, pos);
+        } else if (isCompatJamo(c)) {
+            return copyTo(COMPAT_JAMO_DISASSEMBLED[c - HangulConstants.COMPAT_JAMO_START], dst, pos);
+        }
+        dst[pos] = c;
+        return pos + 1;
+    }
+
+    /**
+     * 문자 하나를 분해한 자모 수
+     */
+    static int disassembledLength(char c) {
+        int packed = decomposePacked(c);
+        if (packed >= 0) {
+            return 1 + JUNGSEONG_DISASSEMBLED[packedJungseongIndex(packed)].length()
+                    + JONGSEONG_DISASSEMBLED[packedJongseongIndex(packed)].length();
+        } else if (isCompatJamo(c)) {
+            return COMPAT_JAMO_DISASSEMBLED[c - HangulConstants.COMPAT_JAMO_START].length();
+        }
+        return 1;
+    }
+
+    private static int copyTo(String str, char[] dst, int pos) {
+        str.getChars(0, str.length(), dst, pos);
+        return pos + str.length();
     }
 
     /**
      * 단일 자모를 분해 (겹자음, 겹모음 분해)
      */
     private static String disassembleJamo(char c) {
-        String doubleConsonant = HangulConstants.DOUBLE_CONSONANT_MAP.get(c);
-        if (doubleConsonant != null) {
-            return doubleConsonant;
-        }
-        String doubleVowel = HangulConstants.DOUBLE_VOWEL_MAP.get(c);
-        if (doubleVowel != null) {
-            return doubleVowel;
+        char first = HangulConstants.getDoubleJamoFirst(c);
+        if (first != '\0') {
+            return new String(new char[]{first, HangulConstants.getDoubleJamoSecond(c)});
         }
         return String.valueOf(c);
     }
@@ -170,17 +309,16 @@ public final class Hangul {
         List<List<String>> result = new ArrayList<List<String>>();
         for (char c : str.toCharArray()) {
             List<String> group = new ArrayList<String>();
-            if (isHangul(c)) {
-                HangulChar hangulChar = disassembleCompleteCharacter(c);
-                if (hangulChar != null) {
-                    // 초성
-                    addDisassembledJamo(group, hangulChar.getChoseong());
-                    // 중성
-                    addDisassembledJamo(group, hangulChar.getJungseong());
-                    // 종성
-                    if (hangulChar.getJongseong() != null) {
-                        addDisassembledJamo(group, hangulChar.getJongseong());
-                    }
+            int packed = decomposePacked(c);
+            if (packed >= 0) {
+                // 초성
+                addDisassembledJamo(group, HangulConstants.CHOSEONG[packedChoseongIndex(packed)]);
+                // 중성
+                addDisassembledJamo(group, HangulConstants.JUNGSEONG[packedJungseongIndex(packed)]);
+                // 종성
+                int jongseongIndex = packedJongseongIndex(packed);
+                if (jongseongIndex > 0) {
+                    addDisassembledJamo(group, HangulConstants.JONGSEONG[jongseongIndex]);
                 }
             } else if (isCompatJamo(c)) {
                 addDisassembledJamo(group, c);
@@ -196,18 +334,10 @@ public final class Hangul {
      * 자모를 분해하여 그룹에 추가
      */
     private static void addDisassembledJamo(List<String> group, char c) {
-        String doubleConsonant = HangulConstants.DOUBLE_CONSONANT_MAP.get(c);
-        if (doubleConsonant != null) {
-            for (char ch : doubleConsonant.toCharArray()) {
-                group.add(String.valueOf(ch));
-            }
-            return;
-        }
-        String doubleVowel = HangulConstants.DOUBLE_VOWEL_MAP.get(c);
-        if (doubleVowel != null) {
-            for (char ch : doubleVowel.toCharArray()) {
-                group.add(String.valueOf(ch));
-            }
+        char first = HangulConstants.getDoubleJamoFirst(c);
+        if (first != '\0') {
+            group.add(String.valueOf(first));
+            group.add(String.valueOf(HangulConstants.getDoubleJamoSecond(c)));
             return;
         }
         group.add(String.valueOf(c));
@@ -235,7 +365,7 @@ public final class Hangul {
         for (String jamo : jamos) {
             combined.append(jamo);
         }
-        return assembleString(combined.toString());
+        return assembleString(combined, new StringBuilder(combined.length())).toString();
     }
 
     /**
@@ -249,130 +379,84 @@ public final class Hangul {
         for (String jamo : jamos) {
             combined.append(jamo);
         }
-        return assembleString(combined.toString());
+        return assembleString(combined, new StringBuilder(combined.length())).toString();
     }
 
     /**
      * 자모 문자열을 한글로 조합
+     * 자모 종류별 전이 테이블로 동작하는 HangulAssembler로 한 번에 읽으며 조합
      */
     public static String assembleString(String jamoString) {
         if (jamoString == null || jamoString.isEmpty()) {
             return jamoString;
         }
+        return assembleString(jamoString, new StringBuilder(jamoString.length())).toString();
+    }
 
-        StringBuilder result = new StringBuilder();
-        int i = 0;
-        int len = jamoString.length();
-
-        while (i < len) {
-            char current = jamoString.charAt(i);
-
-            // 한글 완성형이면 그대로 추가
-            if (isHangul(current)) {
-                result.append(current);
-                i++;
-                continue;
-            }
-
-            // 초성이 아니면 그대로 추가
-            if (!canBeChoseong(current)) {
-                result.append(current);
-                i++;
-                continue;
-            }
-
-            // 다음 문자가 없거나 중성이 아니면 그대로 추가
-            if (i + 1 >= len) {
-                result.append(current);
-                i++;
-                continue;
-            }
-
-            char next = jamoString.charAt(i + 1);
-            
-            // 겹모음 확인
-            Character jungseong = null;
-            int jungseongLen = 1;
-            if (i + 2 < len) {
-                String doubleVowel = String.valueOf(next) + jamoString.charAt(i + 2);
-                Character combined = HangulConstants.DOUBLE_VOWEL_COMBINE_MAP.get(doubleVowel);
-                if (combined != null && canBeJungseong(combined)) {
-                    jungseong = combined;
-                    jungseongLen = 2;
-                }
-            }
-            if (jungseong == null && canBeJungseong(next)) {
-                jungseong = next;
-            }
-
-            if (jungseong == null) {
-                result.append(current);
-                i++;
-                continue;
+    /**
+     * 자모 문자열을 한글로 조합하여 out에 추가
+     * 버퍼를 재사용할 수 있도록 out을 그대로 반환
+     */
+    public static StringBuilder assembleString(CharSequence jamoString, StringBuilder out) {
+        if (jamoString == null) {
+            return out;
+        }
+        HangulAssembler assembler = new HangulAssembler();
+        for (int i = 0, len = jamoString.length(); i < len; i++) {
+            int count = assembler.feed(jamoString.charAt(i));
+            for (int k = 0; k < count; k++) {
+                out.append(assembler.emitted(k));
             }
+        }
+        int count = assembler.flush();
+        for (int k = 0; k < count; k++) {
+            out.append(assembler.emitted(k));
+        }
+        return out;
+    }
 
-            int choseongIndex = HangulConstants.getChoseongIndex(current);
-            int jungseongIndex = HangulConstants.getJungseongIndex(jungseong);
-
-            if (choseongIndex < 0 || jungseongIndex < 0) {
-                result.append(current);
-                i++;
-                continue;
+    /**
+     * 자모 문자열을 한글로 조합하여 out에 추가
+     */
+    public static Appendable assembleString(CharSequence jamoString, Appendable out) throws IOException {
+        if (jamoString == null) {
+            return out;
+        }
+        HangulAssembler assembler = new HangulAssembler();
+        for (int i = 0, len = jamoString.length(); i < len; i++) {
+            int count = assembler.feed(jamoString.charAt(i));
+            for (int k = 0; k < count; k++) {
+                out.append(assembler.emitted(k));
             }
+        }
+        int count = assembler.flush();
+        for (int k = 0; k < count; k++) {
+            out.append(assembler.emitted(k));
+        }
+        return out;
+    }
 
-            i += 1 + jungseongLen;
-
-            // 종성 확인
-            int jongseongIndex = 0;
-            if (i < len) {
-                char possibleJongseong = jamoString.charAt(i);
-                
-                // 겹받침 확인
-                Character jongseong = null;
-                int jongseongLen = 1;
-                if (i + 1 < len) {
-                    String doubleConsonant = String.valueOf(possibleJongseong) + jamoString.charAt(i + 1);
-                    Character combined = HangulConstants.DOUBLE_CONSONANT_COMBINE_MAP.get(doubleConsonant);
-                    if (combined != null && canBeJongseong(combined)) {
-                        // 다음 문자가 중성이면 겹받침 사용 안함
-                        if (i + 2 < len && canBeJungseong(jamoString.charAt(i + 2))) {
-                            // 겹받침 중 뒤 자음만 다음 글자 초성으로
-                        } else {
-                            jongseong = combined;
-                            jongseongLen = 2;
-                        }
-                    }
-                }
-                if (jongseong == null && canBeJongseong(possibleJongseong)) {
-                    jongseong = possibleJongseong;
-                }
-
-                if (jongseong != null) {
-                    // 다음에 중성이 오면 종성을 다음 글자 초성으로
-                    int nextIdx = i + jongseongLen;
-                    if (nextIdx < len && canBeJungseong(jamoString.charAt(nextIdx))) {
-                        if (jongseongLen == 2) {
-                            // 겹받침이면 앞 자음만 종성으로, 뒤 자음은 다음 초성으로
-                            jongseongIndex = HangulConstants.getJongseongIndex(possibleJongseong);
-                            if (jongseongIndex > 0) {
-                                i++;
-                            }
-                        }
-                        // jongseongLen == 1이면 종성 없이 진행
-                    } else {
-                        jongseongIndex = HangulConstants.getJongseongIndex(jongseong);
-                        if (jongseongIndex > 0) {
-                            i += jongseongLen;
-                        }
-                    }
-                }
+    /**
+     * 자모 문자열을 한글로 조합하여 dst의 dstOffset 위치부터 기록하고 기록한 문자 수를 반환
+     * 조합 결과는 입력보다 길어지지 않으므로 dst에는 jamoString.length() 만큼의 여유가 필요
+     */
+    public static int assembleString(CharSequence jamoString, char[] dst, int dstOffset) {
+        if (jamoString == null) {
+            return 0;
+        }
+        int pos = dstOffset;
+        HangulAssembler assembler = new HangulAssembler();
+        for (int i = 0, len = jamoString.length(); i < len; i++) {
+            int count = assembler.feed(jamoString.charAt(i));
+            for (int k = 0; k < count; k++) {
+                dst[pos++] = assembler.emitted(k);
             }
-
-            char assembled = assemble(choseongIndex, jungseongIndex, jongseongIndex);
-            result.append(assembled);
         }
-
-        return result.toString();
+        int count = assembler.flush();
+        for (int k = 0; k < count; k++) {
+            dst[pos++] = assembler.emitted(k);
+        }
+        return pos - dstOffset;
     }
 
     /**
@@ -382,17 +466,82 @@ public final class Hangul {
         if (str == null || str.isEmpty()) {
             return str;
         }
-        StringBuilder sb = new StringBuilder();
-        for (char c : str.toCharArray()) {
-            if (isHangul(c)) {
-                int code = c - HangulConstants.HANGUL_START;
-                int choseongIndex = code / (HangulConstants.JUNGSEONG_COUNT * HangulConstants.JONGSEONG_COUNT);
-                sb.append(HangulConstants.CHOSEONG[choseongIndex]);
-            } else {
-                sb.append(c);
-            }
+        return getChoseong(str, new StringBuilder(str.length())).toString();
+    }
+
+    /**
+     * 초성을 추출하여 out에 추가
+     * 버퍼를 재사용할 수 있도록 out을 그대로 반환
+     */
+    public static StringBuilder getChoseong(CharSequence str, StringBuilder out) {
+        if (str == null) {
+            return out;
+        }
+        for (int i = 0, len = str.length(); i < len; i++) {
+            out.append(choseongOf(str.charAt(i)));
+        }
+        return out;
+    }
+
+    /**
+     * 초성을 추출하여 out에 추가
+     */
+    public static Appendable getChoseong(CharSequence str, Appendable out) throws IOException {
+        if (str == null) {
+            return out;
+        }
+        for (int i = 0, len = str.length(); i < len; i++) {
+            out.append(choseongOf(str.charAt(i)));
+        }
+        return out;
+    }
+
+    /**
+     * 초성을 추출하여 dst의 dstOffset 위치부터 기록하고 기록한 문자 수를 반환
+     * 입력 한 글자당 한 글자를 기록하므로 dst에는 str.length() 만큼의 여유가 필요
+     */
+    public static int getChoseong(CharSequence str, char[] dst, int dstOffset) {
+        if (str == null) {
+            return 0;
+        }
+        int len = str.length();
+        for (int i = 0; i < len; i++) {
+            dst[dstOffset + i] = choseongOf(str.charAt(i));
+        }
+        return len;
+    }
+
+    /**
+     * getChoseong(str, dst, dstOffset)과 같이 기록하면서 sourceIndexes의 같은 위치에 원문 위치를 기록
+     * 초성은 한 글자당 한 글자이므로 dstOffset + i 위치에 i를 기록
+     */
+    public static int getChoseong(CharSequence str, char[] dst, int dstOffset, int[] sourceIndexes) {
+        int len = getChoseong(str, dst, dstOffset);
+        for (int i = 0; i < len; i++) {
+            sourceIndexes[dstOffset + i] = i;
+        }
+        return len;
+    }
+
+    /**
+     * 초성을 추출하면서 초성별 원문 위치를 함께 반환
+     */
+    public static ProjectedText getChoseongWithOffsets(String str) {
+        if (str == null) {
+            throw new IllegalArgumentException("str is null");
         }
-        return sb.toString();
+        char[] dst = new char[str.length()];
+        int[] sourceIndexes = new int[dst.length];
+        getChoseong(str, dst, 0, sourceIndexes);
+        return new ProjectedText(str, new String(dst), sourceIndexes);
+    }
+
+    /**
+     * 한글 완성형이면 초성을, 아니면 문자를 그대로 반환
+     */
+    static char choseongOf(char c) {
+        int packed = decomposePacked(c);
+        return packed >= 0 ? HangulConstants.CHOSEONG[packedChoseongIndex(packed)] : c;
     }
 
     /**
@@ -413,8 +562,7 @@ public final class Hangul {
         if (!isHangul(c)) {
             return false;
         }
-        int code = c - HangulConstants.HANGUL_START;
-        int jongseongIndex = code % HangulConstants.JONGSEONG_COUNT;
+        int jongseongIndex = packedJongseongIndex(decomposePacked(c));
         
         if (jongseongIndex == 0) {
             return false;
@@ -424,8 +572,7 @@ public final class Hangul {
             return true;
         }
 
-        char jongseong = HangulConstants.JONGSEONG[jongseongIndex];
-        boolean isDouble = HangulConstants.DOUBLE_CONSONANT_MAP.containsKey(jongseong);
+        boolean isDouble = JONGSEONG_DISASSEMBLED[jongseongIndex].length() == 2;
 
         switch (option) {
             case SINGLE:
@@ -449,7 +596,7 @@ public final class Hangul {
      * 문자가 초성으로 사용 가능한지 확인
      */
     public static boolean canBeChoseong(char c) {
-        return HangulConstants.CHOSEONG_SET.contains(c);
+        return HangulConstants.getChoseongIndex(c) >= 0;
     }
 
     /**
@@ -466,7 +613,7 @@ public final class Hangul {
      * 문자가 중성으로 사용 가능한지 확인
      */
     public static boolean canBeJungseong(char c) {
-        return HangulConstants.JUNGSEONG_SET.contains(c);
+        return HangulConstants.getJungseongIndex(c) >= 0;
     }
 
     /**
@@ -480,7 +627,7 @@ public final class Hangul {
             return canBeJungseong(str.charAt(0));
         }
         if (str.length() == 2) {
-            return HangulConstants.DOUBLE_VOWEL_COMBINE_MAP.containsKey(str);
+            return HangulConstants.combineDoubleVowel(str.charAt(0), str.charAt(1)) != '\0';
         }
         return false;
     }
@@ -489,7 +636,7 @@ public final class Hangul {
      * 문자가 종성으로 사용 가능한지 확인
      */
     public static boolean canBeJongseong(char c) {
-        return HangulConstants.JONGSEONG_SET.contains(c);
+        return HangulConstants.getJongseongIndex(c) > 0;
     }
 
     /**
@@ -503,16 +650,17 @@ public final class Hangul {
             return canBeJongseong(str.charAt(0));
         }
         if (str.length() == 2) {
-            return HangulConstants.DOUBLE_CONSONANT_COMBINE_MAP.containsKey(str);
+            return HangulConstants.combineDoubleConsonant(str.charAt(0), str.charAt(1)) != '\0';
         }
         return false;
     }
 
     /**
      * 초성 검색 (초성이 포함되어 있는지)
+     * 초성 문자열을 만들지 않고 비교하며, 같은 초성으로 여러 문자열을 검색한다면 ChoseongPattern 사용
      */
     public static boolean choseongIncludes(String str, String choseong) {
-        return getChoseong(str).contains(choseong);
+        return ChoseongPattern.indexOf(str, choseong) >= 0;
     }
 
     /**
@@ -539,8 +687,8 @@ public final class Hangul {
                 jongseongIndex = HangulConstants.getJongseongIndex(jongseong.charAt(0));
             } else {
                 // 겹받침 조합 (예: "ㅂㅅ" -> 'ㅄ')
-                Character combined = HangulConstants.DOUBLE_CONSONANT_COMBINE_MAP.get(jongseong);
-                if (combined != null) {
+                char combined = HangulConstants.combineDoubleConsonant(jongseong.charAt(0), jongseong.charAt(1));
+                if (combined != '\0') {
                     jongseongIndex = HangulConstants.getJongseongIndex(combined);
                 }
             }
@@ -572,8 +720,10 @@ public final class Hangul {
         if (jungseong.length() == 1) {
             jungseongChar = jungseong.charAt(0);
         } else {
-            Character combined = HangulConstants.DOUBLE_VOWEL_COMBINE_MAP.get(jungseong);
-            if (combined != null) {
+            char combined = jungseong.length() == 2
+                    ? HangulConstants.combineDoubleVowel(jungseong.charAt(0), jungseong.charAt(1))
+                    : '\0';
+            if (combined != '\0') {
                 jungseongChar = combined;
             } else {
                 throw new IllegalArgumentException("Invalid hangul Characters: " + choseong + ", " + jungseong + ", " + (jongseong != null ? jongseong : ""));
@@ -595,12 +745,11 @@ public final class Hangul {
      * 합성할 수 없으면 단순 Join
      */
     public static String combineVowels(char vowel1, char vowel2) {
-        String combined = String.valueOf(vowel1) + vowel2;
-        Character result = HangulConstants.DOUBLE_VOWEL_COMBINE_MAP.get(combined);
-        if (result != null) {
+        char result = HangulConstants.combineDoubleVowel(vowel1, vowel2);
+        if (result != '\0') {
             return String.valueOf(result);
         }
-        return combined;
+        return String.valueOf(vowel1) + vowel2;
     }
 
     /**
@@ -617,33 +766,23 @@ public final class Hangul {
 
         if (!isHangul(lastChar)) {
             // 호환 자모인 경우 겹자음/겹모음 분해
-            if (isCompatJamo(lastChar)) {
-                String decomposed = HangulConstants.DOUBLE_CONSONANT_MAP.get(lastChar);
-                if (decomposed != null) {
-                    return prefix + decomposed.charAt(0);
-                }
-                decomposed = HangulConstants.DOUBLE_VOWEL_MAP.get(lastChar);
-                if (decomposed != null) {
-                    return prefix + decomposed.charAt(0);
-                }
+            char first = HangulConstants.getDoubleJamoFirst(lastChar);
+            if (first != '\0') {
+                return prefix + first;
             }
             return prefix;
         }
 
-        HangulChar hangulChar = disassembleCompleteCharacter(lastChar);
-        if (hangulChar == null) {
-            return prefix;
-        }
+        int packed = decomposePacked(lastChar);
+        int choseongIndex = packedChoseongIndex(packed);
+        int jungseongIndex = packedJungseongIndex(packed);
+        int jongseongIndex = packedJongseongIndex(packed);
 
         // 종성이 있으면 종성 제거
-        if (hangulChar.getJongseong() != null) {
-            char jongseong = hangulChar.getJongseong();
-            String decomposed = HangulConstants.DOUBLE_CONSONANT_MAP.get(jongseong);
-            
-            int choseongIndex = HangulConstants.getChoseongIndex(hangulChar.getChoseong());
-            int jungseongIndex = HangulConstants.getJungseongIndex(hangulChar.getJungseong());
-            
-            if (decomposed != null) {
+        if (jongseongIndex > 0) {
+            String decomposed = JONGSEONG_DISASSEMBLED[jongseongIndex];
+
+            if (decomposed.length() == 2) {
                 // 겹받침이면 첫 번째 자음만 종성으로
                 int newJongseongIndex = HangulConstants.getJongseongIndex(decomposed.charAt(0));
                 char assembled = assemble(choseongIndex, jungseongIndex, newJongseongIndex);
@@ -656,18 +795,16 @@ public final class Hangul {
         }
 
         // 중성만 남으면 초성만 반환
-        char jungseong = hangulChar.getJungseong();
-        String decomposedVowel = HangulConstants.DOUBLE_VOWEL_MAP.get(jungseong);
-        
-        if (decomposedVowel != null) {
+        String decomposedVowel = JUNGSEONG_DISASSEMBLED[jungseongIndex];
+
+        if (decomposedVowel.length() == 2) {
             // 겹모음이면 첫 번째 모음만 남기고 조합
-            int choseongIndex = HangulConstants.getChoseongIndex(hangulChar.getChoseong());
             int newJungseongIndex = HangulConstants.getJungseongIndex(decomposedVowel.charAt(0));
             char assembled = assemble(choseongIndex, newJungseongIndex, 0);
             return prefix + assembled;
         }
 
         // 중성이 홑모음이면 초성만 반환
-        return prefix + hangulChar.getChoseong();
+        return prefix + HangulConstants.CHOSEONG[choseongIndex];
     }
 }
@@ -0,0 +1,283 @@
+package kr.sharenshare.utils.hangul;
+
+/**
+ * 자모를 한 글자씩 받아 한글 음절로 조합하는 상태 기계
+ * 전이는 (상태, 입력 문자 종류) 테이블로 결정하고, 겹모음/겹받침 여부만 HangulConstants의 조합 테이블로 확인
+ * 조합이 끝난 문자는 feed/flush의 반환값만큼 emitted로 읽음
+ */
+final class HangulAssembler {
+
+    // 상태
+    private static final int EMPTY = 0;   // 조합 중인 글자 없음
+    private static final int CHO = 1;     // 초성
+    private static final int JUNG = 2;    // 초성 + 중성
+    private static final int JONG = 3;    // 초성 + 중성 + 종성
+    private static final int JONG2 = 4;   // 초성 + 중성 + 겹받침이 되는 두 자음
+
+    // 입력 문자 종류
+    private static final int OTHER = 0;           // 자모가 아닌 문자 (완성형 포함)
+    private static final int CONSONANT = 1;       // 초성, 종성 모두 가능한 자음
+    private static final int CHOSEONG_ONLY = 2;   // 초성만 가능한 자음 (ㄸ, ㅃ, ㅉ)
+    private static final int JONGSEONG_ONLY = 3;  // 종성만 가능한 자음 (ㄳ, ㄵ 등)
+    private static final int VOWEL = 4;           // 모음
+    private static final int CLASS_COUNT = 5;
+
+    // 동작
+    private static final byte EMIT = 0;               // 입력 문자를 그대로 내보냄
+    private static final byte START = 1;              // 초성으로 새 글자 시작
+    private static final byte ADD_JUNGSEONG = 2;      // 중성 추가
+    private static final byte COMBINE_JUNGSEONG = 3;  // 겹모음이 되면 합치고, 아니면 RESTART
+    private static final byte ADD_JONGSEONG = 4;      // 종성 추가
+    private static final byte COMBINE_JONGSEONG = 5;  // 겹받침이 되면 이어 받고, 아니면 RESTART
+    private static final byte SPLIT = 6;              // 마지막 종성 자음을 다음 글자의 초성으로 넘김
+    private static final byte RESTART = 7;            // 조합 중인 글자를 내보내고 입력을 EMPTY 상태에서 다시 처리
+
+    private static final byte[] TRANSITION_TABLE = {
+            // OTHER, CONSONANT,       CHOSEONG_ONLY, JONGSEONG_ONLY, VOWEL
+            EMIT,     START,             START,   EMIT,          EMIT,               // EMPTY
+            RESTART,  RESTART,           RESTART, RESTART,       ADD_JUNGSEONG,      // CHO
+            RESTART,  ADD_JONGSEONG,     RESTART, ADD_JONGSEONG, COMBINE_JUNGSEONG,  // JUNG
+            RESTART,  COMBINE_JONGSEONG, RESTART, RESTART,       SPLIT,              // JONG
+            RESTART,  RESTART,           RESTART, RESTART,       SPLIT,              // JONG2
+    };
+
+    // 호환 자모별 입력 문자 종류
+    private static final byte[] CLASS_TABLE = new byte[HangulConstants.COMPAT_JAMO_COUNT];
+
+    static {
+        for (char c = HangulConstants.COMPAT_JAMO_START; c <= HangulConstants.COMPAT_JAMO_END; c++) {
+            boolean choseong = HangulConstants.getChoseongIndex(c) >= 0;
+            boolean jongseong = HangulConstants.getJongseongIndex(c) > 0;
+            int jamoClass;
+            if (HangulConstants.getJungseongIndex(c) >= 0) {
+                jamoClass = VOWEL;
+            } else if (choseong && jongseong) {
+                jamoClass = CONSONANT;
+            } else if (choseong) {
+                jamoClass = CHOSEONG_ONLY;
+            } else if (jongseong) {
+                jamoClass = JONGSEONG_ONLY;
+            } else {
+                jamoClass = OTHER;
+            }
+            CLASS_TABLE[c - HangulConstants.COMPAT_JAMO_START] = (byte) jamoClass;
+        }
+    }
+
+    private int state = EMPTY;
+    private char choseong;
+    private char jungseong;
+    private char jongseong;
+    private char jongseong2;
+
+    // 한 번의 feed로 내보내는 문자는 최대 3개
+    private final char[] emitted = new char[4];
+    private int emittedLength;
+
+    /**
+     * 문자 하나를 입력하고 조합이 끝나 내보낸 문자 수를 반환
+     */
+    int feed(char c) {
+        emittedLength = 0;
+        process(c);
+        return emittedLength;
+    }
+
+    /**
+     * 조합 중인 글자를 내보내고 내보낸 문자 수를 반환
+     */
+    int flush() {
+        emittedLength = 0;
+        emitPending();
+        return emittedLength;
+    }
+
+    /**
+     * 직전 feed/flush에서 내보낸 index번째 문자
+     */
+    char emitted(int index) {
+        return emitted[index];
+    }
+
+    /**
+     * 조합 중인 글자가 있는지 확인
+     */
+    boolean hasPending() {
+        return state != EMPTY;
+    }
+
+    /**
+     * 조합 중인 글자를 지금 내보낸다면 나올 문자
+     */
+    char pendingChar() {
+        switch (state) {
+            case CHO:
+                return choseong;
+            case JUNG:
+                return syllable(0);
+            case JONG:
+                return syllable(HangulConstants.getJongseongIndex(jongseong));
+            case JONG2:
+                return syllable(HangulConstants.getJongseongIndex(
+                        HangulConstants.combineDoubleConsonant(jongseong, jongseong2)));
+            default:
+                throw new IllegalStateException("No pending character");
+        }
+    }
+
+    /**
+     * 조합 중인 글자를 버리고 처음 상태로 되돌림
+     */
+    void reset() {
+        state = EMPTY;
+        emittedLength = 0;
+    }
+
+    /**
+     * 조합 중인 글자에서 마지막 자모 하나를 지움 (겹모음/겹받침은 앞 자모만 남김)
+     * 조합 중인 글자가 없으면 false
+     * 예: 값 -> 갑, 과 -> 고, 가 -> ㄱ
+     */
+    boolean removeLast() {
+        switch (state) {
+            case CHO:
+                state = EMPTY;
+                return true;
+            case JUNG: {
+                char first = HangulConstants.getDoubleJamoFirst(jungseong);
+                if (first != '\0') {
+                    jungseong = first;
+                } else {
+                    state = CHO;
+                }
+                return true;
+            }
+            case JONG: {
+                char first = HangulConstants.getDoubleJamoFirst(jongseong);
+                if (first != '\0') {
+                    jongseong = first;
+                } else {
+                    state = JUNG;
+                }
+                return true;
+            }
+            case JONG2:
+                state = JONG;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 한글 완성형 문자를 다시 조합 중인 상태로 불러옴
+     * 겹받침은 두 자음으로 나누어 두므로 뒤에 모음이 오면 뒤 자음이 다음 글자로 넘어감
+     */
+    void load(char syllable) {
+        int packed = Hangul.decomposePacked(syllable);
+        if (packed < 0) {
+            throw new IllegalArgumentException("Not a hangul syllable: " + syllable);
+        }
+        choseong = HangulConstants.CHOSEONG[Hangul.packedChoseongIndex(packed)];
+        jungseong = HangulConstants.JUNGSEONG[Hangul.packedJungseongIndex(packed)];
+        int jongseongIndex = Hangul.packedJongseongIndex(packed);
+        if (jongseongIndex == 0) {
+            state = JUNG;
+            return;
+        }
+        char jong = HangulConstants.JONGSEONG[jongseongIndex];
+        char first = HangulConstants.getDoubleJamoFirst(jong);
+        if (first != '\0') {
+            jongseong = first;
+            jongseong2 = HangulConstants.getDoubleJamoSecond(jong);
+            state = JONG2;
+        } else {
+            jongseong = jong;
+            state = JONG;
+        }
+    }
+
+    private void process(char c) {
+        switch (TRANSITION_TABLE[state * CLASS_COUNT + classOf(c)]) {
+            case EMIT:
+                emit(c);
+                break;
+            case START:
+                choseong = c;
+                state = CHO;
+                break;
+            case ADD_JUNGSEONG:
+                jungseong = c;
+                state = JUNG;
+                break;
+            case COMBINE_JUNGSEONG: {
+                char combined = HangulConstants.combineDoubleVowel(jungseong, c);
+                if (combined != '\0') {
+                    jungseong = combined;
+                } else {
+                    restart(c);
+                }
+                break;
+            }
+            case ADD_JONGSEONG:
+                jongseong = c;
+                state = JONG;
+                break;
+            case COMBINE_JONGSEONG:
+                if (HangulConstants.combineDoubleConsonant(jongseong, c) != '\0') {
+                    jongseong2 = c;
+                    state = JONG2;
+                } else {
+                    restart(c);
+                }
+                break;
+            case SPLIT: {
+                char moved;
+                if (state == JONG2) {
+                    moved = jongseong2;
+                    state = JONG;
+                } else {
+                    moved = jongseong;
+                    state = JUNG;
+                }
+                emitPending();
+                process(moved);
+                process(c);
+                break;
+            }
+            default:
+                restart(c);
+                break;
+        }
+    }
+
+    private void restart(char c) {
+        emitPending();
+        process(c);
+    }
+
+    private void emitPending() {
+        if (state != EMPTY) {
+            emit(pendingChar());
+            state = EMPTY;
+        }
+    }
+
+    private void emit(char c) {
+        emitted[emittedLength++] = c;
+    }
+
+    private char syllable(int jongseongIndex) {
+        return Hangul.assemble(
+                HangulConstants.getChoseongIndex(choseong),
+                HangulConstants.getJungseongIndex(jungseong),
+                jongseongIndex);
+    }
+
+    private static int classOf(char c) {
+        if (c < HangulConstants.COMPAT_JAMO_START || c > HangulConstants.COMPAT_JAMO_END) {
+            return OTHER;
+        }
+        return CLASS_TABLE[c - HangulConstants.COMPAT_JAMO_START];
+    }
+}
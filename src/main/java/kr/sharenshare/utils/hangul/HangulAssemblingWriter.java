@@ -0,0 +1,128 @@
+package kr.sharenshare.utils.hangul;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 써 넣는 자모를 한글로 조합해 내보내는 Writer
+ * 조합 상태는 write 호출 사이에도 이어지므로 자모를 몇 번에 나누어 써도 Hangul.assembleString과 같은 결과
+ * 조합 중인 마지막 글자는 finish 또는 close에서 내보냄
+ * 예: write("ㄱㅏ"); write("ㅂㅅ"); close(); -> "값"
+ */
+public class HangulAssemblingWriter extends FilterWriter {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private final HangulAssembler assembler = new HangulAssembler();
+    private final char[] buf;
+    private int count;
+    private boolean closed;
+
+    public HangulAssemblingWriter(Writer out) {
+        this(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * bufferSize: 조합된 문자를 모아 두었다가 한 번에 내보낼 크기
+     */
+    public HangulAssemblingWriter(Writer out, int bufferSize) {
+        super(out);
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size <= 0");
+        }
+        this.buf = new char[bufferSize];
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        ensureOpen();
+        feed((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        ensureOpen();
+        if (off < 0 || len < 0 || len > cbuf.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            feed(cbuf[i]);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        ensureOpen();
+        if (off < 0 || len < 0 || len > str.length() - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            feed(str.charAt(i));
+        }
+    }
+
+    /**
+     * 조합이 끝난 문자를 내보내고 원본 Writer를 flush
+     * 뒤에 올 자모와 합쳐질 수 있는 조합 중인 글자는 남겨 둠
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        flushBuffer();
+        out.flush();
+    }
+
+    /**
+     * 조합 중인 글자까지 모두 내보냄
+     * 이후에 쓰는 자모는 새 글자로 조합
+     */
+    public void finish() throws IOException {
+        ensureOpen();
+        int n = assembler.flush();
+        for (int k = 0; k < n; k++) {
+            put(assembler.emitted(k));
+        }
+        flushBuffer();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            finish();
+        } finally {
+            closed = true;
+            out.close();
+        }
+    }
+
+    private void feed(char c) throws IOException {
+        int n = assembler.feed(c);
+        for (int k = 0; k < n; k++) {
+            put(assembler.emitted(k));
+        }
+    }
+
+    private void put(char c) throws IOException {
+        if (count == buf.length) {
+            flushBuffer();
+        }
+        buf[count++] = c;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buf, 0, count);
+            count = 0;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
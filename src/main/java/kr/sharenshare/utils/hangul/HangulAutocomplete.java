@@ -0,0 +1,109 @@
+package kr.sharenshare.utils.hangul;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 자모 단위 자동완성
+ * 단어를 Hangul.disassemble로 분해한 키로 배열 기반 트라이를 만들므로 입력 중인 글자로 끝나는 검색어도 일치
+ * 결과는 가중치가 큰 순서 (같으면 자모 키 순서)
+ * 불변 객체이므로 여러 스레드에서 공유 가능
+ * 예: "닭갈비" 등록 후 complete("달ㄱ", 10), complete("닭", 10) -> ["닭갈비"]
+ */
+public final class HangulAutocomplete {
+
+    final JamoTrie trie;
+    // 등록 순서별 단어
+    final StringTable words;
+
+    HangulAutocomplete(JamoTrie trie, StringTable words) {
+        this.trie = trie;
+        this.words = words;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * prefix로 시작하는 단어를 가중치가 큰 순서로 최대 k개 반환
+     */
+    public List<String> complete(String prefix, int k) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("prefix is null");
+        }
+        return completeJamo(new CharSequence[]{Hangul.disassemble(prefix)}, 1, k, new LongIntPriorityQueue(16));
+    }
+
+    /**
+     * 이미 자모로 분해한 여러 접두사 중 하나로 시작하는 단어를 합쳐 가중치가 큰 순서로 최대 k개 반환
+     */
+    List<String> completeJamo(CharSequence[] jamoPrefixes, int prefixCount, int k, LongIntPriorityQueue heap) {
+        if (k <= 0) {
+            return Collections.emptyList();
+        }
+        int[] nodes = new int[prefixCount];
+        int total = 0;
+        for (int i = 0; i < prefixCount; i++) {
+            nodes[i] = trie.find(jamoPrefixes[i]);
+            if (nodes[i] != JamoTrie.NONE) {
+                total += trie.entryEnd.get(nodes[i]) - trie.entryStart.get(nodes[i]);
+            }
+        }
+        if (total == 0) {
+            return Collections.emptyList();
+        }
+        int[] entries = new int[Math.min(k, total)];
+        int count = trie.topK(nodes, prefixCount, entries.length, entries, heap);
+        List<String> result = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(words.get(trie.entryIds.get(entries[i])));
+        }
+        return result;
+    }
+
+    /**
+     * 등록한 단어 수
+     */
+    public int size() {
+        return words.size();
+    }
+
+    public static final class Builder {
+
+        private final List<String> words = new ArrayList<String>();
+        private long[] weights = new long[16];
+
+        private Builder() {
+        }
+
+        /**
+         * 단어와 가중치 등록 (같은 단어를 여러 번 등록하면 각각 결과에 나옴)
+         */
+        public Builder add(String word, long weight) {
+            if (word == null) {
+                throw new IllegalArgumentException("word is null");
+            }
+            if (words.size() == weights.length) {
+                weights = Arrays.copyOf(weights, weights.length * 2);
+            }
+            weights[words.size()] = weight;
+            words.add(word);
+            return this;
+        }
+
+        public HangulAutocomplete build() {
+            int n = words.size();
+            String[] wordArray = words.toArray(new String[n]);
+            String[] keys = new String[n];
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < n; i++) {
+                sb.setLength(0);
+                keys[i] = Hangul.disassemble(wordArray[i], sb).toString();
+            }
+            return new HangulAutocomplete(JamoTrie.build(keys, Arrays.copyOf(weights, n)), StringTable.of(wordArray));
+        }
+    }
+}
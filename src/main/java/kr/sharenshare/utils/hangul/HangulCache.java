@@ -0,0 +1,293 @@
+package kr.sharenshare.utils.hangul;
+
+import java.util.HashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * StandardizePronunciation.standardize와 Romanize.romanize 결과를 담는 크기 제한 캐시
+ * 입력과 변환 종류(경음화 여부, 로마자)를 키로 하며, 자주 쓰는 단어가 반복되는 경우에 사용
+ * 키를 해시로 나눈 구획마다 락과 segmented LRU(처음 들어온 항목은 시험 구역, 다시 쓰인 항목은 보호 구역)를 두므로
+ * 여러 스레드에서 공유할 수 있고, 한 번만 쓰인 단어가 자주 쓰는 단어를 밀어내지 않음
+ * 변환은 락 밖에서 하므로 같은 입력을 동시에 처음 요청하면 두 번 계산할 수 있음 (결과는 같음)
+ * 예: HangulCache cache = HangulCache.create(100_000); cache.standardize("국물") -> "궁물"
+ */
+public final class HangulCache {
+
+    private static final int STANDARDIZE_HARD = 0;
+    private static final int STANDARDIZE = 1;
+    private static final int ROMANIZE = 2;
+    // 구획 용량 중 보호 구역 비율 (%)
+    private static final int PROTECTED_PERCENT = 80;
+    // 기본 구획 수를 정할 때 구획마다 남기는 최소 항목 수
+    private static final int MIN_SEGMENT_SIZE = 16;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private HangulCache(int maximumSize, int segmentCount) {
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        for (int i = 0; i < segmentCount; i++) {
+            // 나머지는 앞 구획부터 하나씩 나누어 전체 용량이 maximumSize와 같게 함
+            int capacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            segments[i] = new Segment(capacity);
+        }
+    }
+
+    /**
+     * 항목을 최대 maximumSize개(1 이상) 담는 캐시 생성
+     * 구획 수는 프로세서 수에 맞추되, 구획마다 LRU가 의미 있도록 항목 MIN_SEGMENT_SIZE개 이상을 남김
+     */
+    public static HangulCache create(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        return create(maximumSize, defaultSegmentCount(maximumSize, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * 항목을 최대 maximumSize개 담고 segmentCount개 구획(2의 거듭제곱)으로 나눈 캐시 생성
+     * 구획이 많을수록 락 경합이 줄지만 구획별 LRU라서 전체 LRU 순서와는 조금 달라짐
+     */
+    public static HangulCache create(int maximumSize, int segmentCount) {
+        if (segmentCount <= 0 || Integer.bitCount(segmentCount) != 1) {
+            throw new IllegalArgumentException("segmentCount must be a power of two: " + segmentCount);
+        }
+        if (maximumSize < segmentCount) {
+            throw new IllegalArgumentException(
+                    "maximumSize must be at least segmentCount " + segmentCount + ": " + maximumSize);
+        }
+        return new HangulCache(maximumSize, segmentCount);
+    }
+
+    /**
+     * StandardizePronunciation.standardize(hangul)의 캐시 버전 (경음화 적용)
+     */
+    public String standardize(String hangul) {
+        return standardize(hangul, true);
+    }
+
+    /**
+     * StandardizePronunciation.standardize(hangul, hardConversion)의 캐시 버전
+     */
+    public String standardize(String hangul, boolean hardConversion) {
+        if (hangul == null || hangul.isEmpty()) {
+            return "";
+        }
+        return get(hangul, hardConversion ? STANDARDIZE_HARD : STANDARDIZE);
+    }
+
+    /**
+     * Romanize.romanize(hangul)의 캐시 버전
+     */
+    public String romanize(String hangul) {
+        if (hangul == null || hangul.isEmpty()) {
+            return "";
+        }
+        return get(hangul, ROMANIZE);
+    }
+
+    /**
+     * 캐시에서 찾은 횟수
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 캐시에 없어서 변환한 횟수
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 용량을 넘어서 밀려난 항목 수
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 현재 담긴 항목 수
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.map.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 모든 항목 삭제 (횟수는 유지)
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    private String get(String text, int kind) {
+        Key key = new Key(text, kind);
+        Segment segment = segments[spread(key.hash) & segmentMask];
+        synchronized (segment) {
+            Node node = segment.map.get(key);
+            if (node != null) {
+                segment.touch(node);
+                hits.increment();
+                return node.value;
+            }
+        }
+
+        misses.increment();
+        String value = kind == ROMANIZE
+                ? Romanize.romanize(text)
+                : StandardizePronunciation.standardize(text, kind == STANDARDIZE_HARD);
+        synchronized (segment) {
+            if (!segment.map.containsKey(key)) {
+                evictions.add(segment.insert(key, value));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 프로세서 수의 4배 이상인 2의 거듭제곱, 단 maximumSize / MIN_SEGMENT_SIZE 이하 (최소 1)
+     */
+    static int defaultSegmentCount(int maximumSize, int processors) {
+        int byProcessors = Integer.highestOneBit(Math.max(1, processors * 4 - 1)) << 1;
+        int bySize = Integer.highestOneBit(Math.max(1, maximumSize / MIN_SEGMENT_SIZE));
+        return Math.min(byProcessors, bySize);
+    }
+
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        return h ^ (h >>> 13);
+    }
+
+    private static final class Key {
+        final String text;
+        final int kind;
+        final int hash;
+
+        Key(String text, int kind) {
+            this.text = text;
+            this.kind = kind;
+            this.hash = text.hashCode() * 31 + kind;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return kind == other.kind && text.equals(other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Node {
+        final Key key;
+        final String value;
+        boolean protectedZone;
+        Node prev;
+        Node next;
+
+        Node(Key key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * 구획 하나 (락은 구획 객체 자신)
+     * 시험 구역과 보호 구역은 각각 머리가 최근인 이중 연결 목록
+     */
+    private static final class Segment {
+        final int capacity;
+        final int protectedCapacity;
+        final HashMap<Key, Node> map;
+        final Node probation = new Node(null, null);
+        final Node protectedList = new Node(null, null);
+        int protectedSize;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+            this.protectedCapacity = (int) ((long) capacity * PROTECTED_PERCENT / 100);
+            this.map = new HashMap<>();
+            clear();
+        }
+
+        void clear() {
+            map.clear();
+            probation.prev = probation.next = probation;
+            protectedList.prev = protectedList.next = protectedList;
+            protectedSize = 0;
+        }
+
+        /**
+         * 다시 쓰인 항목을 보호 구역 머리로 옮기고, 보호 구역이 넘치면 가장 오래된 항목을 시험 구역으로 내림
+         */
+        void touch(Node node) {
+            unlink(node);
+            linkFirst(protectedList, node);
+            if (!node.protectedZone) {
+                node.protectedZone = true;
+                protectedSize++;
+                if (protectedSize > protectedCapacity) {
+                    Node demoted = protectedList.prev;
+                    unlink(demoted);
+                    demoted.protectedZone = false;
+                    protectedSize--;
+                    linkFirst(probation, demoted);
+                }
+            }
+        }
+
+        /**
+         * 새 항목을 시험 구역 머리에 넣고 밀려난 항목 수 반환
+         */
+        int insert(Key key, String value) {
+            Node node = new Node(key, value);
+            map.put(key, node);
+            linkFirst(probation, node);
+            int evicted = 0;
+            while (map.size() > capacity) {
+                Node victim = probation.prev != probation ? probation.prev : protectedList.prev;
+                unlink(victim);
+                if (victim.protectedZone) {
+                    protectedSize--;
+                }
+                map.remove(victim.key);
+                evicted++;
+            }
+            return evicted;
+        }
+
+        private static void linkFirst(Node head, Node node) {
+            node.prev = head;
+            node.next = head.next;
+            head.next.prev = node;
+            head.next = node;
+        }
+
+        private static void unlink(Node node) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+        }
+    }
+}
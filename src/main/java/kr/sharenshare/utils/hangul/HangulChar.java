@@ -2,12 +2,52 @@ package kr.sharenshare.utils.hangul;
 
 /**
  * 한글 완성형 문자를 초성, 중성, 종성으로 분해한 결과를 담는 클래스
+ * 불변 객체이며, Hangul.disassembleCompleteCharacter는 음절별로 공유되는 인스턴스를 반환
  */
 public final class HangulChar {
     private final Character choseong;   // 초성
     private final Character jungseong;  // 중성
     private final Character jongseong;  // 종성 (nullable)
 
+    /**
+     * 11,172개 음절의 분해 결과 (처음 사용할 때 초기화)
+     */
+    private static final class Cache {
+        static final HangulChar[] SYLLABLES;
+
+        static {
+            Character[] choseongs = box(HangulConstants.CHOSEONG);
+            Character[] jungseongs = box(HangulConstants.JUNGSEONG);
+            Character[] jongseongs = box(HangulConstants.JONGSEONG);
+            jongseongs[0] = null;
+
+            SYLLABLES = new HangulChar[HangulConstants.HANGUL_END - HangulConstants.HANGUL_START + 1];
+            for (char c = HangulConstants.HANGUL_START; c <= HangulConstants.HANGUL_END; c++) {
+                int packed = Hangul.decomposePacked(c);
+                SYLLABLES[c - HangulConstants.HANGUL_START] = new HangulChar(
+                        choseongs[Hangul.packedChoseongIndex(packed)],
+                        jungseongs[Hangul.packedJungseongIndex(packed)],
+                        jongseongs[Hangul.packedJongseongIndex(packed)]
+                );
+            }
+        }
+
+        private static Character[] box(char[] chars) {
+            Character[] boxed = new Character[chars.length];
+            for (int i = 0; i < chars.length; i++) {
+                boxed[i] = chars[i];
+            }
+            return boxed;
+        }
+    }
+
+    /**
+     * 한글 완성형 문자의 공유 인스턴스 반환 (호출자가 isHangul을 확인)
+     */
+    static HangulChar of(char syllable) {
+        return Cache.SYLLABLES[syllable - HangulConstants.HANGUL_START];
+    }
+
     public HangulChar(Character choseong, Character jungseong, Character jongseong) {
         this.choseong = choseong;
         this.jungseong = jungseong;
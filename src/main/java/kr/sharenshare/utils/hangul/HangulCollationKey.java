@@ -0,0 +1,139 @@
+package kr.sharenshare.utils.hangul;
+
+import java.util.Comparator;
+
+/**
+ * 부호 없는 바이트 비교만으로 한글 사전 순서가 되는 정렬 키
+ * 글자마다 초성, 중성, 종성 인덱스를 바이트로 기록하므로 키를 만든 뒤에는 기수 정렬이나 병합 정렬에 그대로 사용 가능
+ * - 한글이 아닌 문자: [0x01, 상위 바이트, 하위 바이트] (모든 한글보다 앞, 코드 순서)
+ * - 한글 완성형: [0x10 + 초성, 1 + 중성, 종성]
+ * - 자음 (호환 자모): [0x10 + 초성, 0x00, 0 또는 1 + 겹자음의 뒤 자음 초성] (그 자음으로 시작하는 음절 바로 앞)
+ * - 모음 (호환 자모): [0x30 + 중성] (모든 자음과 음절 뒤)
+ * 첫 바이트로 길이가 정해지므로 글자 경계가 어긋나지 않음
+ * 예: "ㄱ" < "가" < "각" < "ㄲ" < "까" < "ㄴ"
+ */
+public final class HangulCollationKey {
+
+    private static final int NON_HANGUL = 0x01;
+    private static final int CONSONANT_BASE = 0x10;
+    private static final int VOWEL_BASE = 0x30;
+
+    /**
+     * 문자열 비교기 (키를 만들지 않고 글자마다 비교하며 HangulCollationKey.compare와 같은 결과)
+     */
+    public static final Comparator<CharSequence> COMPARATOR = new Comparator<CharSequence>() {
+        @Override
+        public int compare(CharSequence a, CharSequence b) {
+            return HangulCollationKey.compare(a, b);
+        }
+    };
+
+    private HangulCollationKey() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+
+    /**
+     * 정렬 키 생성
+     * 예: of("가") -> {0x10, 0x01, 0x00}
+     */
+    public static byte[] of(CharSequence str) {
+        byte[] key = new byte[length(str)];
+        writeTo(str, key, 0);
+        return key;
+    }
+
+    /**
+     * 정렬 키의 바이트 수
+     */
+    public static int length(CharSequence str) {
+        int length = 0;
+        for (int i = 0, len = str.length(); i < len; i++) {
+            length += isVowel(str.charAt(i)) ? 1 : 3;
+        }
+        return length;
+    }
+
+    /**
+     * 정렬 키를 dst의 offset 위치부터 기록하고 기록한 바이트 수를 반환 (dst에는 length(str) 만큼의 여유가 필요)
+     */
+    public static int writeTo(CharSequence str, byte[] dst, int offset) {
+        int pos = offset;
+        for (int i = 0, len = str.length(); i < len; i++) {
+            int weight = weight(str.charAt(i));
+            if (weight >>> 16 >= VOWEL_BASE) {
+                dst[pos++] = (byte) (weight >>> 16);
+            } else {
+                dst[pos++] = (byte) (weight >>> 16);
+                dst[pos++] = (byte) (weight >>> 8);
+                dst[pos++] = (byte) weight;
+            }
+        }
+        return pos - offset;
+    }
+
+    /**
+     * 두 정렬 키를 부호 없는 바이트 순서로 비교
+     */
+    public static int compare(byte[] a, byte[] b) {
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; i++) {
+            int x = a[i] & 0xFF;
+            int y = b[i] & 0xFF;
+            if (x != y) {
+                return x - y;
+            }
+        }
+        return a.length - b.length;
+    }
+
+    /**
+     * 두 문자열을 정렬 키 순서로 비교 (키를 만들지 않음)
+     */
+    public static int compare(CharSequence a, CharSequence b) {
+        int n = Math.min(a.length(), b.length());
+        for (int i = 0; i < n; i++) {
+            char x = a.charAt(i);
+            char y = b.charAt(i);
+            if (x != y) {
+                int c = Integer.compare(weight(x), weight(y));
+                if (c != 0) {
+                    return c;
+                }
+            }
+        }
+        return a.length() - b.length();
+    }
+
+    /**
+     * 글자의 키 바이트를 3바이트 int로 (모음은 뒤를 0으로 채움)
+     * 글자 키는 서로의 접두사가 되지 않으므로 이 값의 대소가 바이트 비교 결과와 같음
+     */
+    private static int weight(char c) {
+        int packed = Hangul.decomposePacked(c);
+        if (packed >= 0) {
+            return (CONSONANT_BASE + Hangul.packedChoseongIndex(packed)) << 16
+                    | (1 + Hangul.packedJungseongIndex(packed)) << 8
+                    | Hangul.packedJongseongIndex(packed);
+        }
+        if (Hangul.isCompatJamo(c)) {
+            int jungseongIndex = HangulConstants.getJungseongIndex(c);
+            if (jungseongIndex >= 0) {
+                return (VOWEL_BASE + jungseongIndex) << 16;
+            }
+            int choseongIndex = HangulConstants.getChoseongIndex(c);
+            if (choseongIndex >= 0) {
+                return (CONSONANT_BASE + choseongIndex) << 16;
+            }
+            // 겹자음은 앞 자음 바로 뒤
+            char first = HangulConstants.getDoubleJamoFirst(c);
+            char second = HangulConstants.getDoubleJamoSecond(c);
+            return (CONSONANT_BASE + HangulConstants.getChoseongIndex(first)) << 16
+                    | 1 + HangulConstants.getChoseongIndex(second);
+        }
+        return NON_HANGUL << 16 | c;
+    }
+
+    private static boolean isVowel(char c) {
+        return Hangul.isCompatJamo(c) && HangulConstants.getJungseongIndex(c) >= 0;
+    }
+}
@@ -0,0 +1,152 @@
+package kr.sharenshare.utils.hangul;
+
+/**
+ * 자모나 QWERTY 키를 한 번에 하나씩 받아 한글을 조합하는 입력기
+ * 확정된 글자와 조합 중인 글자 하나로 이루어지며, 입력과 backspace 모두 문자열 길이와 무관하게 상수 시간에 처리
+ * 자신이 CharSequence이므로 복사 없이 조합 결과를 읽을 수 있음
+ * 스레드 안전하지 않으므로 입력 세션마다 하나씩 사용
+ * 예: append('ㄱ').append('ㅏ').append('ㅂ').append('ㅅ') -> "값", backspace() -> "갑"
+ */
+public final class HangulComposer implements CharSequence {
+
+    private final StringBuilder committed;
+    private final HangulAssembler assembler = new HangulAssembler();
+
+    public HangulComposer() {
+        this.committed = new StringBuilder();
+    }
+
+    public HangulComposer(int capacity) {
+        this.committed = new StringBuilder(capacity);
+    }
+
+    /**
+     * 문자 하나 입력
+     * 자모는 조합 중인 글자와 합치고, 그 밖의 문자는 조합 중인 글자를 확정한 뒤 그대로 추가
+     */
+    public HangulComposer append(char c) {
+        int n = assembler.feed(c);
+        for (int k = 0; k < n; k++) {
+            committed.append(assembler.emitted(k));
+        }
+        return this;
+    }
+
+    /**
+     * 문자열의 문자를 차례로 입력
+     */
+    public HangulComposer append(CharSequence str) {
+        for (int i = 0, len = str.length(); i < len; i++) {
+            append(str.charAt(i));
+        }
+        return this;
+    }
+
+    /**
+     * QWERTY 키 하나 입력 (한글 자판에 대응하지 않는 키는 그대로 입력)
+     * 예: appendQwerty('r').appendQwerty('k') -> "가"
+     */
+    public HangulComposer appendQwerty(char key) {
+        char jamo = HangulConstants.qwertyToJamo(key);
+        return append(jamo != '\0' ? jamo : key);
+    }
+
+    /**
+     * 마지막 자모 하나를 지움
+     * 조합 중인 글자가 없으면 마지막으로 확정된 글자를 Hangul.removeLastCharacter와 같은 방식으로 지우고, 한글이면 다시 조합 중인 상태로 엶
+     * 지울 문자가 없으면 false
+     */
+    public boolean backspace() {
+        if (assembler.removeLast()) {
+            return true;
+        }
+        int last = committed.length() - 1;
+        if (last < 0) {
+            return false;
+        }
+        char c = committed.charAt(last);
+        if (Hangul.isHangul(c)) {
+            committed.setLength(last);
+            assembler.load(c);
+            assembler.removeLast();
+        } else {
+            char first = HangulConstants.getDoubleJamoFirst(c);
+            if (first != '\0') {
+                committed.setCharAt(last, first);
+            } else {
+                committed.setLength(last);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 조합 중인 글자를 확정
+     */
+    public HangulComposer commit() {
+        int n = assembler.flush();
+        for (int k = 0; k < n; k++) {
+            committed.append(assembler.emitted(k));
+        }
+        return this;
+    }
+
+    /**
+     * 조합 중인 글자가 있는지 확인
+     */
+    public boolean isComposing() {
+        return assembler.hasPending();
+    }
+
+    /**
+     * 모든 입력을 지움
+     */
+    public void clear() {
+        committed.setLength(0);
+        assembler.reset();
+    }
+
+    @Override
+    public int length() {
+        return assembler.hasPending() ? committed.length() + 1 : committed.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index == committed.length() && assembler.hasPending()) {
+            return assembler.pendingChar();
+        }
+        return committed.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || start > end || end > length()) {
+            throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+        }
+        if (start == end) {
+            return "";
+        }
+        if (end <= committed.length()) {
+            return committed.substring(start, end);
+        }
+        if (start == committed.length()) {
+            return String.valueOf(assembler.pendingChar());
+        }
+        return new StringBuilder(end - start)
+                .append(committed, start, committed.length())
+                .append(assembler.pendingChar())
+                .toString();
+    }
+
+    @Override
+    public String toString() {
+        if (!assembler.hasPending()) {
+            return committed.toString();
+        }
+        return new StringBuilder(committed.length() + 1)
+                .append(committed)
+                .append(assembler.pendingChar())
+                .toString();
+    }
+}
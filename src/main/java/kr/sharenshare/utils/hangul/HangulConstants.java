@@ -1,5 +1,6 @@
 package kr.sharenshare.utils.hangul;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -46,6 +47,7 @@ public final class HangulConstants {
     public static final int CHOSEONG_COUNT = 19;
     public static final int JUNGSEONG_COUNT = 21;
     public static final int JONGSEONG_COUNT = 28;
+    public static final int COMPAT_JAMO_COUNT = COMPAT_JAMO_END - COMPAT_JAMO_START + 1;
 
     // 초성으로 사용 가능한 문자 Set
     public static final Set<Character> CHOSEONG_SET;
@@ -68,6 +70,21 @@ public final class HangulConstants {
     public static final Map<Character, Character> QWERTY_TO_HANGUL_MAP;
     public static final Map<Character, Character> HANGUL_TO_QWERTY_MAP;
 
+    // 아래 배열은 위 Set/Map과 같은 내용을 호환 자모 범위(ㄱ~ㅣ) 기준의 배열로 옮긴 것
+    // 호환 자모별 초성/중성/종성 인덱스 (해당하지 않으면 -1)
+    private static final byte[] CHOSEONG_INDEX_TABLE = new byte[COMPAT_JAMO_COUNT];
+    private static final byte[] JUNGSEONG_INDEX_TABLE = new byte[COMPAT_JAMO_COUNT];
+    private static final byte[] JONGSEONG_INDEX_TABLE = new byte[COMPAT_JAMO_COUNT];
+    // 호환 자모별 겹자음/겹모음 분해 결과 (겹자모가 아니면 '\0')
+    private static final char[] DOUBLE_JAMO_FIRST_TABLE = new char[COMPAT_JAMO_COUNT];
+    private static final char[] DOUBLE_JAMO_SECOND_TABLE = new char[COMPAT_JAMO_COUNT];
+    // 두 호환 자모의 조합 결과 ([앞 자모 * COMPAT_JAMO_COUNT + 뒤 자모], 조합할 수 없으면 '\0')
+    private static final char[] DOUBLE_CONSONANT_COMBINE_TABLE = new char[COMPAT_JAMO_COUNT * COMPAT_JAMO_COUNT];
+    private static final char[] DOUBLE_VOWEL_COMBINE_TABLE = new char[COMPAT_JAMO_COUNT * COMPAT_JAMO_COUNT];
+    // ASCII -> 호환 자모, 호환 자모 -> ASCII (대응하지 않으면 '\0')
+    private static final char[] QWERTY_TO_HANGUL_TABLE = new char[128];
+    private static final char[] HANGUL_TO_QWERTY_TABLE = new char[COMPAT_JAMO_COUNT];
+
     static {
         // 초성 Set 초기화
         Set<Character> choseongSet = new HashSet<Character>();
@@ -190,41 +207,125 @@ public final class HangulConstants {
         hangulToQwerty.put('ㅜ', 'n');
         hangulToQwerty.put('ㅡ', 'm');
         HANGUL_TO_QWERTY_MAP = Collections.unmodifiableMap(hangulToQwerty);
+
+        // 배열 테이블 초기화
+        Arrays.fill(CHOSEONG_INDEX_TABLE, (byte) -1);
+        Arrays.fill(JUNGSEONG_INDEX_TABLE, (byte) -1);
+        Arrays.fill(JONGSEONG_INDEX_TABLE, (byte) -1);
+        for (int i = 0; i < CHOSEONG.length; i++) {
+            CHOSEONG_INDEX_TABLE[CHOSEONG[i] - COMPAT_JAMO_START] = (byte) i;
+        }
+        for (int i = 0; i < JUNGSEONG.length; i++) {
+            JUNGSEONG_INDEX_TABLE[JUNGSEONG[i] - COMPAT_JAMO_START] = (byte) i;
+        }
+        for (int i = 1; i < JONGSEONG.length; i++) {
+            JONGSEONG_INDEX_TABLE[JONGSEONG[i] - COMPAT_JAMO_START] = (byte) i;
+        }
+
+        for (Map.Entry<Character, String> entry : doubleConsonantMap.entrySet()) {
+            putDoubleJamo(entry.getKey(), entry.getValue(), DOUBLE_CONSONANT_COMBINE_TABLE);
+        }
+        for (Map.Entry<Character, String> entry : doubleVowelMap.entrySet()) {
+            putDoubleJamo(entry.getKey(), entry.getValue(), DOUBLE_VOWEL_COMBINE_TABLE);
+        }
+
+        for (Map.Entry<Character, Character> entry : qwertyToHangul.entrySet()) {
+            QWERTY_TO_HANGUL_TABLE[entry.getKey()] = entry.getValue();
+        }
+        for (Map.Entry<Character, Character> entry : hangulToQwerty.entrySet()) {
+            HANGUL_TO_QWERTY_TABLE[entry.getKey() - COMPAT_JAMO_START] = entry.getValue();
+        }
+    }
+
+    private static void putDoubleJamo(char doubleJamo, String decomposed, char[] combineTable) {
+        char first = decomposed.charAt(0);
+        char second = decomposed.charAt(1);
+        DOUBLE_JAMO_FIRST_TABLE[doubleJamo - COMPAT_JAMO_START] = first;
+        DOUBLE_JAMO_SECOND_TABLE[doubleJamo - COMPAT_JAMO_START] = second;
+        combineTable[pairIndex(first, second)] = doubleJamo;
+    }
+
+    private static boolean isCompatJamo(char c) {
+        return c >= COMPAT_JAMO_START && c <= COMPAT_JAMO_END;
+    }
+
+    private static int pairIndex(char first, char second) {
+        return (first - COMPAT_JAMO_START) * COMPAT_JAMO_COUNT + (second - COMPAT_JAMO_START);
     }
 
     /**
-     * 초성 인덱스 반환
+     * 초성 인덱스 반환 (초성이 아니면 -1)
      */
     public static int getChoseongIndex(char c) {
-        for (int i = 0; i < CHOSEONG.length; i++) {
-            if (CHOSEONG[i] == c) {
-                return i;
-            }
-        }
-        return -1;
+        return isCompatJamo(c) ? CHOSEONG_INDEX_TABLE[c - COMPAT_JAMO_START] : -1;
     }
 
     /**
-     * 중성 인덱스 반환
+     * 중성 인덱스 반환 (중성이 아니면 -1)
      */
     public static int getJungseongIndex(char c) {
-        for (int i = 0; i < JUNGSEONG.length; i++) {
-            if (JUNGSEONG[i] == c) {
-                return i;
-            }
-        }
-        return -1;
+        return isCompatJamo(c) ? JUNGSEONG_INDEX_TABLE[c - COMPAT_JAMO_START] : -1;
     }
 
     /**
-     * 종성 인덱스 반환
+     * 종성 인덱스 반환 (받침 없음 '\0'은 0, 종성이 아니면 -1)
      */
     public static int getJongseongIndex(char c) {
-        for (int i = 0; i < JONGSEONG.length; i++) {
-            if (JONGSEONG[i] == c) {
-                return i;
-            }
+        if (c == JONGSEONG[0]) {
+            return 0;
         }
-        return -1;
+        return isCompatJamo(c) ? JONGSEONG_INDEX_TABLE[c - COMPAT_JAMO_START] : -1;
+    }
+
+    /**
+     * 겹자음/겹모음의 앞 자모 반환 (겹자모가 아니면 '\0')
+     * 예: 'ㄳ' -> 'ㄱ', 'ㅘ' -> 'ㅗ'
+     */
+    public static char getDoubleJamoFirst(char c) {
+        return isCompatJamo(c) ? DOUBLE_JAMO_FIRST_TABLE[c - COMPAT_JAMO_START] : '\0';
+    }
+
+    /**
+     * 겹자음/겹모음의 뒤 자모 반환 (겹자모가 아니면 '\0')
+     * 예: 'ㄳ' -> 'ㅅ', 'ㅘ' -> 'ㅏ'
+     */
+    public static char getDoubleJamoSecond(char c) {
+        return isCompatJamo(c) ? DOUBLE_JAMO_SECOND_TABLE[c - COMPAT_JAMO_START] : '\0';
+    }
+
+    /**
+     * 두 자음을 겹자음으로 조합 (조합할 수 없으면 '\0')
+     * 예: ('ㄱ', 'ㅅ') -> 'ㄳ'
+     */
+    public static char combineDoubleConsonant(char first, char second) {
+        if (!isCompatJamo(first) || !isCompatJamo(second)) {
+            return '\0';
+        }
+        return DOUBLE_CONSONANT_COMBINE_TABLE[pairIndex(first, second)];
+    }
+
+    /**
+     * 두 모음을 겹모음으로 조합 (조합할 수 없으면 '\0')
+     * 예: ('ㅗ', 'ㅏ') -> 'ㅘ'
+     */
+    public static char combineDoubleVowel(char first, char second) {
+        if (!isCompatJamo(first) || !isCompatJamo(second)) {
+            return '\0';
+        }
+        return DOUBLE_VOWEL_COMBINE_TABLE[pairIndex(first, second)];
+    }
+
+    /**
+     * QWERTY 키를 한글 자모로 변환 (대응하는 자모가 없으면 '\0')
+     */
+    public static char qwertyToJamo(char c) {
+        return c < QWERTY_TO_HANGUL_TABLE.length ? QWERTY_TO_HANGUL_TABLE[c] : '\0';
+    }
+
+    /**
+     * 한글 자모를 QWERTY 키로 변환 (대응하는 키가 없으면 '\0')
+     */
+    public static char jamoToQwerty(char c) {
+        return isCompatJamo(c) ? HANGUL_TO_QWERTY_TABLE[c - COMPAT_JAMO_START] : '\0';
     }
 }
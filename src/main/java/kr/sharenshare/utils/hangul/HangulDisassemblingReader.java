@@ -0,0 +1,119 @@
+package kr.sharenshare.utils.hangul;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+/**
+ * 읽어 들이는 문자열을 자모로 분해하는 Reader
+ * 고정 크기 버퍼 단위로 읽어 Hangul.disassemble과 같은 결과를 돌려주므로 입력 크기와 무관하게 메모리를 일정하게 사용
+ * 예: new HangulDisassemblingReader(new StringReader("값")) -> "ㄱㅏㅂㅅ"
+ */
+public class HangulDisassemblingReader extends FilterReader {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    // 한 글자는 최대 5개의 자모로 분해됨 (예: '뷃' -> ㅂㅜㅔㄹㅎ)
+    private static final int MAX_EXPANSION = 5;
+
+    private final char[] inBuf;
+    private final CharBuffer inView;
+    private final char[] outBuf;
+    private int outPos;
+    private int outLimit;
+
+    public HangulDisassemblingReader(Reader in) {
+        this(in, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * bufferSize: 한 번에 원본에서 읽어 들일 문자 수
+     */
+    public HangulDisassemblingReader(Reader in, int bufferSize) {
+        super(in);
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size <= 0");
+        }
+        this.inBuf = new char[bufferSize];
+        this.inView = CharBuffer.wrap(inBuf);
+        this.outBuf = new char[bufferSize * MAX_EXPANSION];
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return outBuf[outPos++];
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > cbuf.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int n = Math.min(len, outLimit - outPos);
+        System.arraycopy(outBuf, outPos, cbuf, off, n);
+        outPos += n;
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n < 0) {
+            throw new IllegalArgumentException("skip value is negative");
+        }
+        long skipped = 0;
+        while (skipped < n && fill()) {
+            int step = (int) Math.min(n - skipped, outLimit - outPos);
+            outPos += step;
+            skipped += step;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        return outPos < outLimit || in.ready();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(int readAheadLimit) throws IOException {
+        throw new IOException("mark() not supported");
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("reset() not supported");
+    }
+
+    /**
+     * 분해된 자모가 남아 있지 않으면 원본에서 다음 덩어리를 읽어 분해
+     * 원본이 끝났으면 false
+     */
+    private boolean fill() throws IOException {
+        while (outPos >= outLimit) {
+            int n = in.read(inBuf, 0, inBuf.length);
+            if (n < 0) {
+                return false;
+            }
+            inView.position(0);
+            inView.limit(n);
+            outLimit = Hangul.disassemble(inView, outBuf, 0);
+            outPos = 0;
+        }
+        return true;
+    }
+}
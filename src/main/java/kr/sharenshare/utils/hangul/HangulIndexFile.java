@@ -0,0 +1,430 @@
+package kr.sharenshare.utils.hangul;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ChoseongIndex, HangulAutocomplete, JamoLexicon을 담는 색인 파일
+ * open은 파일을 FileChannel.map으로 매핑해 배열을 힙에 올리지 않고 바로 검색하므로 큰 사전도 다시 만들 필요 없이 바로 사용 가능
+ * open은 배열을 한 번씩 훑어 위치 배열의 순서와 범위, 트라이 노드/항목 번호를 확인하므로 열린 색인은 검색 중 범위를 벗어나지 않음
+ * 매핑은 객체가 GC될 때 해제되며, 매핑한 동안 파일을 수정하면 안 됨
+ * 예: HangulIndexFile.builder().add(index).add(autocomplete).write(path);
+ *     HangulIndexFile.open(path).getChoseongIndex().search("ㅂㄴ")
+ *
+ * 파일 형식 (리틀 엔디언)
+ * - 헤더: "HGIX", 버전(int), 구역 수(int), 예약(int)
+ * - 구역 표: 구역마다 종류(int), 배열 수(int), 배열마다 위치(long), 원소 크기(int), 원소 수(int)
+ * - 배열: 8바이트 경계에 정렬한 char/int/long 배열 (배열 하나는 2GB 미만)
+ */
+public final class HangulIndexFile {
+
+    /**
+     * 파일 형식 버전
+     */
+    public static final int VERSION = 2;
+
+    private static final byte[] MAGIC = "HGIX".getBytes(StandardCharsets.US_ASCII);
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+    private static final int HEADER_SIZE = 16;
+    private static final int SECTION_HEADER_SIZE = 8;
+    private static final int ARRAY_ENTRY_SIZE = 16;
+    private static final int ALIGNMENT = 8;
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    // 구역 종류
+    private static final int CHOSEONG_INDEX = 1;
+    private static final int AUTOCOMPLETE = 2;
+    private static final int LEXICON = 3;
+
+    private final ChoseongIndex choseongIndex;
+    private final HangulAutocomplete autocomplete;
+    private final JamoLexicon lexicon;
+
+    private HangulIndexFile(ChoseongIndex choseongIndex, HangulAutocomplete autocomplete, JamoLexicon lexicon) {
+        this.choseongIndex = choseongIndex;
+        this.autocomplete = autocomplete;
+        this.lexicon = lexicon;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 색인 파일을 읽기 전용으로 매핑
+     * 형식이 맞지 않으면 IOException
+     */
+    public static HangulIndexFile open(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("path is null");
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            ByteBuffer header = read(channel, 0, HEADER_SIZE, fileSize);
+            for (byte b : MAGIC) {
+                if (header.get() != b) {
+                    throw new IOException("Not a Hangul index file: " + path);
+                }
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported index file version: " + version);
+            }
+            int sectionCount = header.getInt();
+            if (sectionCount < 0) {
+                throw new IOException("Corrupt index file: section count " + sectionCount);
+            }
+
+            ChoseongIndex choseongIndex = null;
+            HangulAutocomplete autocomplete = null;
+            JamoLexicon lexicon = null;
+            long pos = HEADER_SIZE;
+            for (int s = 0; s < sectionCount; s++) {
+                ByteBuffer section = read(channel, pos, SECTION_HEADER_SIZE, fileSize);
+                int type = section.getInt();
+                int arrayCount = section.getInt();
+                if (arrayCount < 0) {
+                    throw new IOException("Corrupt index file: array count " + arrayCount);
+                }
+                pos += SECTION_HEADER_SIZE;
+                ByteBuffer entries = read(channel, pos, (long) arrayCount * ARRAY_ENTRY_SIZE, fileSize);
+                pos += (long) arrayCount * ARRAY_ENTRY_SIZE;
+                Buffer[] arrays = new Buffer[arrayCount];
+                for (int a = 0; a < arrayCount; a++) {
+                    arrays[a] = map(channel, entries.getLong(), entries.getInt(), entries.getInt(), fileSize);
+                }
+                // 모르는 종류의 구역은 이후 버전과의 호환을 위해 건너뜀
+                if (type == CHOSEONG_INDEX) {
+                    choseongIndex = toChoseongIndex(arrays);
+                } else if (type == AUTOCOMPLETE) {
+                    JamoTrie trie = toTrie(arrays);
+                    StringTable words = toWords(arrays);
+                    checkEntryIds(trie, words);
+                    autocomplete = new HangulAutocomplete(trie, words);
+                } else if (type == LEXICON) {
+                    JamoTrie trie = toTrie(arrays);
+                    StringTable words = toWords(arrays);
+                    checkEntryIds(trie, words);
+                    lexicon = new JamoLexicon(trie, words);
+                }
+            }
+            return new HangulIndexFile(choseongIndex, autocomplete, lexicon);
+        }
+    }
+
+    /**
+     * 초성 색인 (파일에 없으면 null)
+     */
+    public ChoseongIndex getChoseongIndex() {
+        return choseongIndex;
+    }
+
+    /**
+     * 자동완성 (파일에 없으면 null)
+     */
+    public HangulAutocomplete getAutocomplete() {
+        return autocomplete;
+    }
+
+    /**
+     * 편집 거리 사전 (파일에 없으면 null)
+     */
+    public JamoLexicon getLexicon() {
+        return lexicon;
+    }
+
+    private static ChoseongIndex toChoseongIndex(Buffer[] arrays) throws IOException {
+        checkShape(arrays, 2, 4, 8, 4, 4);
+        ChoseongIndex index = new ChoseongIndex((CharBuffer) arrays[0], (IntBuffer) arrays[1],
+                (LongBuffer) arrays[2], (IntBuffer) arrays[3], (IntBuffer) arrays[4]);
+        if (index.documentOffsets.limit() == 0 || index.postingOffsets.limit() != index.gramKeys.limit() + 1) {
+            throw new IOException("Corrupt index file: choseong index offsets");
+        }
+        checkOffsets(index.documentOffsets, index.text.limit(), "document offsets");
+        checkOffsets(index.postingOffsets, index.postings.limit(), "posting offsets");
+        for (int g = 1; g < index.gramKeys.limit(); g++) {
+            if (index.gramKeys.get(g - 1) >= index.gramKeys.get(g)) {
+                throw new IOException("Corrupt index file: gram keys are not sorted");
+            }
+        }
+        // 목록마다 문서 번호가 오름차순이고 문서 수 미만
+        int documentCount = index.documentOffsets.limit() - 1;
+        for (int g = 0; g < index.gramKeys.limit(); g++) {
+            int previous = -1;
+            for (int p = index.postingOffsets.get(g), end = index.postingOffsets.get(g + 1); p < end; p++) {
+                int document = index.postings.get(p);
+                if (document <= previous || document >= documentCount) {
+                    throw new IOException("Corrupt index file: posting " + p);
+                }
+                previous = document;
+            }
+        }
+        return index;
+    }
+
+    private static JamoTrie toTrie(Buffer[] arrays) throws IOException {
+        checkShape(arrays, 2, 4, 4, 8, 4, 4, 4, 4, 8, 2, 4);
+        JamoTrie trie = new JamoTrie((CharBuffer) arrays[0], (IntBuffer) arrays[1], (IntBuffer) arrays[2],
+                (LongBuffer) arrays[3], (IntBuffer) arrays[4], (IntBuffer) arrays[5], (IntBuffer) arrays[6],
+                (IntBuffer) arrays[7], (LongBuffer) arrays[8]);
+        int nodeCount = trie.nodeCount();
+        for (int a = 1; a <= 6; a++) {
+            if (arrays[a].limit() != nodeCount) {
+                throw new IOException("Corrupt index file: trie node arrays");
+            }
+        }
+        if (nodeCount == 0 || trie.entryWeights.limit() != trie.entryCount()
+                || arrays[10].limit() != trie.entryCount() + 1) {
+            throw new IOException("Corrupt index file: trie entry arrays");
+        }
+        int entryCount = trie.entryCount();
+        for (int node = 0; node < nodeCount; node++) {
+            // 전위 순회 번호이므로 자식과 다음 형제는 항상 뒤 번호 (순환도 막음)
+            int child = trie.firstChild.get(node);
+            int sibling = trie.nextSibling.get(node);
+            if ((child != JamoTrie.NONE && (child <= node || child >= nodeCount))
+                    || (sibling != JamoTrie.NONE && (sibling <= node || sibling >= nodeCount))) {
+                throw new IOException("Corrupt index file: trie node " + node);
+            }
+            int start = trie.entryStart.get(node);
+            int terminalEnd = trie.terminalEnd.get(node);
+            int end = trie.entryEnd.get(node);
+            if (start < 0 || start > terminalEnd || terminalEnd > end || end > entryCount) {
+                throw new IOException("Corrupt index file: trie entries of node " + node);
+            }
+        }
+        return trie;
+    }
+
+    private static StringTable toWords(Buffer[] arrays) throws IOException {
+        StringTable words = new StringTable((CharBuffer) arrays[9], (IntBuffer) arrays[10]);
+        checkOffsets(words.offsets, words.chars.limit(), "word offsets");
+        return words;
+    }
+
+    /**
+     * 트라이 항목이 가리키는 단어 번호가 단어 표 안에 있는지 확인
+     */
+    private static void checkEntryIds(JamoTrie trie, StringTable words) throws IOException {
+        for (int i = 0, n = trie.entryCount(); i < n; i++) {
+            int id = trie.entryIds.get(i);
+            if (id < 0 || id >= words.size()) {
+                throw new IOException("Corrupt index file: trie entry " + i);
+            }
+        }
+    }
+
+    /**
+     * 위치 배열이 0 이상에서 시작해 줄지 않고 limit 이하에서 끝나는지 확인
+     */
+    private static void checkOffsets(IntBuffer offsets, int limit, String name) throws IOException {
+        int previous = 0;
+        for (int i = 0, n = offsets.limit(); i < n; i++) {
+            int offset = offsets.get(i);
+            if (offset < previous || offset > limit) {
+                throw new IOException("Corrupt index file: " + name + " at " + i);
+            }
+            previous = offset;
+        }
+    }
+
+    private static void checkShape(Buffer[] arrays, int... elementSizes) throws IOException {
+        if (arrays.length != elementSizes.length) {
+            throw new IOException("Corrupt index file: expected " + elementSizes.length + " arrays but " + arrays.length);
+        }
+        for (int a = 0; a < arrays.length; a++) {
+            if (elementSize(arrays[a]) != elementSizes[a]) {
+                throw new IOException("Corrupt index file: array " + a + " has wrong element size");
+            }
+        }
+    }
+
+    private static Buffer map(FileChannel channel, long offset, int elementSize, int count, long fileSize)
+            throws IOException {
+        long byteLength = (long) elementSize * count;
+        if (count < 0 || offset < 0 || offset % ALIGNMENT != 0 || byteLength > Integer.MAX_VALUE
+                || offset + byteLength > fileSize) {
+            throw new IOException("Corrupt index file: array at " + offset);
+        }
+        ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, offset, byteLength).order(ORDER);
+        switch (elementSize) {
+            case 2:
+                return bytes.asCharBuffer();
+            case 4:
+                return bytes.asIntBuffer();
+            case 8:
+                return bytes.asLongBuffer();
+            default:
+                throw new IOException("Corrupt index file: element size " + elementSize);
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long offset, long length, long fileSize) throws IOException {
+        if (offset + length > fileSize || length > Integer.MAX_VALUE) {
+            throw new IOException("Corrupt index file: truncated at " + offset);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) length).order(ORDER);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Corrupt index file: truncated at " + offset);
+            }
+        }
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    private static int elementSize(Buffer array) {
+        if (array instanceof CharBuffer) {
+            return 2;
+        }
+        if (array instanceof IntBuffer) {
+            return 4;
+        }
+        return 8;
+    }
+
+    public static final class Builder {
+
+        private final List<Integer> types = new ArrayList<Integer>();
+        private final List<Buffer[]> sections = new ArrayList<Buffer[]>();
+
+        private Builder() {
+        }
+
+        public Builder add(ChoseongIndex index) {
+            if (index == null) {
+                throw new IllegalArgumentException("index is null");
+            }
+            return addSection(CHOSEONG_INDEX, new Buffer[]{
+                    index.text, index.documentOffsets, index.gramKeys, index.postingOffsets, index.postings});
+        }
+
+        public Builder add(HangulAutocomplete autocomplete) {
+            if (autocomplete == null) {
+                throw new IllegalArgumentException("autocomplete is null");
+            }
+            return addSection(AUTOCOMPLETE, trieArrays(autocomplete.trie, autocomplete.words));
+        }
+
+        public Builder add(JamoLexicon lexicon) {
+            if (lexicon == null) {
+                throw new IllegalArgumentException("lexicon is null");
+            }
+            return addSection(LEXICON, trieArrays(lexicon.trie, lexicon.words));
+        }
+
+        /**
+         * 등록한 색인을 파일로 저장 (파일이 있으면 덮어씀)
+         */
+        public void write(Path path) throws IOException {
+            if (path == null) {
+                throw new IllegalArgumentException("path is null");
+            }
+            // 구역 표 크기를 먼저 구해 배열 위치를 정함
+            long tableSize = HEADER_SIZE;
+            for (Buffer[] arrays : sections) {
+                tableSize += SECTION_HEADER_SIZE + (long) arrays.length * ARRAY_ENTRY_SIZE;
+            }
+            ByteBuffer table = ByteBuffer.allocate((int) tableSize).order(ORDER);
+            table.put(MAGIC).putInt(VERSION).putInt(sections.size()).putInt(0);
+            long pos = align(tableSize);
+            List<Long> offsets = new ArrayList<Long>();
+            for (int s = 0; s < sections.size(); s++) {
+                Buffer[] arrays = sections.get(s);
+                table.putInt(types.get(s)).putInt(arrays.length);
+                for (Buffer array : arrays) {
+                    table.putLong(pos).putInt(elementSize(array)).putInt(array.limit());
+                    offsets.add(pos);
+                    pos = align(pos + (long) elementSize(array) * array.limit());
+                }
+            }
+            ((Buffer) table).flip();
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeFully(channel, table, 0);
+                int a = 0;
+                for (Buffer[] arrays : sections) {
+                    for (Buffer array : arrays) {
+                        writeArray(channel, offsets.get(a++), array);
+                    }
+                }
+                // 마지막 배열이 비어 있어도 모든 배열 위치가 파일 안에 있도록 채움
+                if (channel.size() < pos) {
+                    writeFully(channel, ByteBuffer.allocate((int) (pos - channel.size())), channel.size());
+                }
+            }
+        }
+
+        private Builder addSection(int type, Buffer[] arrays) {
+            if (types.contains(type)) {
+                throw new IllegalArgumentException("Section already added: " + type);
+            }
+            for (Buffer array : arrays) {
+                if ((long) elementSize(array) * array.limit() > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Array exceeds 2GB");
+                }
+            }
+            types.add(type);
+            sections.add(arrays);
+            return this;
+        }
+
+        private static Buffer[] trieArrays(JamoTrie trie, StringTable words) {
+            return new Buffer[]{
+                    trie.labels, trie.firstChild, trie.nextSibling, trie.maxWeight,
+                    trie.entryStart, trie.terminalEnd, trie.entryEnd, trie.entryIds, trie.entryWeights,
+                    words.chars, words.offsets};
+        }
+
+        private static long align(long pos) {
+            return (pos + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+        }
+
+        /**
+         * 배열을 CHUNK_SIZE씩 리틀 엔디언 바이트로 옮겨 씀
+         */
+        private static void writeArray(FileChannel channel, long offset, Buffer array) throws IOException {
+            int elementSize = elementSize(array);
+            int step = CHUNK_SIZE / elementSize;
+            ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE).order(ORDER);
+            for (int from = 0, count = array.limit(); from < count; from += step) {
+                int to = Math.min(count, from + step);
+                ((Buffer) chunk).clear();
+                if (array instanceof CharBuffer) {
+                    CharBuffer source = ((CharBuffer) array).duplicate();
+                    ((Buffer) source).limit(to).position(from);
+                    chunk.asCharBuffer().put(source);
+                } else if (array instanceof IntBuffer) {
+                    IntBuffer source = ((IntBuffer) array).duplicate();
+                    ((Buffer) source).limit(to).position(from);
+                    chunk.asIntBuffer().put(source);
+                } else {
+                    LongBuffer source = ((LongBuffer) array).duplicate();
+                    ((Buffer) source).limit(to).position(from);
+                    chunk.asLongBuffer().put(source);
+                }
+                ((Buffer) chunk).limit((to - from) * elementSize);
+                writeFully(channel, chunk, offset + (long) from * elementSize);
+            }
+        }
+
+        private static void writeFully(FileChannel channel, ByteBuffer buffer, long offset) throws IOException {
+            long pos = offset;
+            while (buffer.hasRemaining()) {
+                pos += channel.write(buffer, pos);
+            }
+        }
+    }
+}
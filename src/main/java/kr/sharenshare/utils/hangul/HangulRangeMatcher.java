@@ -0,0 +1,234 @@
+package kr.sharenshare.utils.hangul;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * 입력 중인 한글 검색어를 완성형 코드 범위의 나열로 컴파일한 매처
+ * 후보 문자를 분해하지 않고 범위 비교만 하므로 문자마다 decompose하는 방식보다 빠름
+ * 검색어는 먼저 자모로 분해했다가 Hangul.assembleString으로 다시 조합한 뒤 (음절 뒤에 자모를 친 "사ㄱ"도 "ㅅㅏㄱ"과 같이 "삭"이 됨) 다음과 같이 바꿈 (범위는 Hangul.assemble로 계산)
+ * - 초성으로 쓸 수 있는 자음: 그 초성의 588자 블록과 자음 자신 (예: ㄱ -> 가-깋, ㄱ)
+ * - 마지막 글자가 받침 없는 음절: 받침이 붙거나 겹모음이 된 음절까지 (예: 사 -> 사-샇, 고 -> 고-곻, 과-괗, 괘-괳, 괴-굏)
+ * - 마지막 글자가 받침 있는 음절: 겹받침이 된 음절까지, 또는 마지막 받침 자음이 다음 글자의 초성인 경우 (예: 닭 -> 닭, 또는 달 + ㄱ 블록)
+ * 불변 객체이므로 여러 스레드에서 공유 가능
+ * 예: compile("사ㄱ").find("맛있는 사과") -> 4
+ */
+public final class HangulRangeMatcher {
+
+    private static final int BLOCK_SIZE = HangulConstants.JUNGSEONG_COUNT * HangulConstants.JONGSEONG_COUNT;
+
+    private final String query;
+    // 문자 범위 집합: [lo0, hi0, lo1, hi1, ...]
+    // 앞부분은 모든 경우에 공통, 마지막은 대안 중 하나와 일치
+    private final char[][] prefix;
+    private final char[][][] alternatives;
+
+    private HangulRangeMatcher(String query, char[][] prefix, char[][][] alternatives) {
+        this.query = query;
+        this.prefix = prefix;
+        this.alternatives = alternatives;
+    }
+
+    /**
+     * 검색어를 범위 매처로 컴파일
+     */
+    public static HangulRangeMatcher compile(String query) {
+        if (query == null) {
+            throw new IllegalArgumentException("query is null");
+        }
+        // 음절과 자모가 섞인 입력도 같은 키 입력과 같은 결과가 되도록 분해 후 조합
+        String assembled = Hangul.assembleString(Hangul.disassemble(query));
+        int length = assembled.length();
+        if (length == 0) {
+            return new HangulRangeMatcher(query, new char[0][], new char[][][]{new char[0][]});
+        }
+        char[][] prefix = new char[length - 1][];
+        for (int i = 0; i < length - 1; i++) {
+            prefix[i] = middleClass(assembled.charAt(i));
+        }
+        return new HangulRangeMatcher(query, prefix, lastAlternatives(assembled.charAt(length - 1)));
+    }
+
+    /**
+     * 범위가 일치하는 첫 위치를 반환 (없으면 -1)
+     */
+    public int find(CharSequence text) {
+        for (int i = 0, len = text.length(); i <= len; i++) {
+            if (matchesAt(text, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * text가 검색어로 시작하는지 확인
+     */
+    public boolean matchesPrefix(CharSequence text) {
+        return matchesAt(text, 0);
+    }
+
+    /**
+     * 같은 범위를 나타내는 정규식
+     */
+    public Pattern toPattern() {
+        return Pattern.compile(toRegex());
+    }
+
+    /**
+     * 같은 범위를 나타내는 정규식 문자열
+     */
+    public String toRegex() {
+        StringBuilder sb = new StringBuilder();
+        for (char[] ranges : prefix) {
+            appendClass(sb, ranges);
+        }
+        if (alternatives.length == 1) {
+            for (char[] ranges : alternatives[0]) {
+                appendClass(sb, ranges);
+            }
+        } else {
+            sb.append("(?:");
+            for (int a = 0; a < alternatives.length; a++) {
+                if (a > 0) {
+                    sb.append('|');
+                }
+                for (char[] ranges : alternatives[a]) {
+                    appendClass(sb, ranges);
+                }
+            }
+            sb.append(')');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+
+    private boolean matchesAt(CharSequence text, int start) {
+        int len = text.length();
+        int pos = start;
+        for (char[] ranges : prefix) {
+            if (pos >= len || !contains(ranges, text.charAt(pos))) {
+                return false;
+            }
+            pos++;
+        }
+        for (char[][] alternative : alternatives) {
+            if (pos + alternative.length <= len && matchesAll(alternative, text, pos)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesAll(char[][] classes, CharSequence text, int pos) {
+        for (int k = 0; k < classes.length; k++) {
+            if (!contains(classes[k], text.charAt(pos + k))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(char[] ranges, char c) {
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (c >= ranges[i] && c <= ranges[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 마지막이 아닌 글자: 초성 자음은 블록으로, 나머지는 그대로
+     */
+    private static char[] middleClass(char c) {
+        int choseongIndex = HangulConstants.getChoseongIndex(c);
+        if (choseongIndex >= 0) {
+            return choseongClass(choseongIndex);
+        }
+        return new char[]{c, c};
+    }
+
+    private static char[][][] lastAlternatives(char c) {
+        int packed = Hangul.decomposePacked(c);
+        if (packed < 0) {
+            return new char[][][]{{middleClass(c)}};
+        }
+        int cho = Hangul.packedChoseongIndex(packed);
+        int jung = Hangul.packedJungseongIndex(packed);
+        int jong = Hangul.packedJongseongIndex(packed);
+
+        if (jong == 0) {
+            // 받침이 붙거나 겹모음이 될 수 있음
+            char[] ranges = new char[0];
+            for (int v = 0; v < HangulConstants.JUNGSEONG_COUNT; v++) {
+                char vowel = HangulConstants.JUNGSEONG[v];
+                if (v == jung || HangulConstants.getDoubleJamoFirst(vowel) == HangulConstants.JUNGSEONG[jung]) {
+                    ranges = addRange(ranges, Hangul.assemble(cho, v, 0), Hangul.assemble(cho, v, HangulConstants.JONGSEONG_COUNT - 1));
+                }
+            }
+            return new char[][][]{{ranges}};
+        }
+
+        // 겹받침이 될 수 있음
+        char jongChar = HangulConstants.JONGSEONG[jong];
+        char[] ranges = {c, c};
+        for (int j = 1; j < HangulConstants.JONGSEONG_COUNT; j++) {
+            if (HangulConstants.getDoubleJamoFirst(HangulConstants.JONGSEONG[j]) == jongChar) {
+                char extended = Hangul.assemble(cho, jung, j);
+                ranges = addRange(ranges, extended, extended);
+            }
+        }
+
+        // 마지막 받침 자음이 다음 글자의 초성일 수 있음
+        char first = HangulConstants.getDoubleJamoFirst(jongChar);
+        char moved = first != '\0' ? HangulConstants.getDoubleJamoSecond(jongChar) : jongChar;
+        char remaining = Hangul.assemble(cho, jung, first != '\0' ? HangulConstants.getJongseongIndex(first) : 0);
+        char[][] split = {{remaining, remaining}, choseongClass(HangulConstants.getChoseongIndex(moved))};
+        return new char[][][]{{ranges}, split};
+    }
+
+    /**
+     * 초성 블록과 자음 자신
+     */
+    private static char[] choseongClass(int choseongIndex) {
+        char start = Hangul.assemble(choseongIndex, 0, 0);
+        char jamo = HangulConstants.CHOSEONG[choseongIndex];
+        return new char[]{jamo, jamo, start, (char) (start + BLOCK_SIZE - 1)};
+    }
+
+    /**
+     * 범위를 추가하고 이어지는 범위는 합침 (추가하는 범위는 기존 범위보다 뒤)
+     */
+    private static char[] addRange(char[] ranges, char lo, char hi) {
+        int n = ranges.length;
+        if (n > 0 && ranges[n - 1] + 1 >= lo) {
+            ranges[n - 1] = (char) Math.max(ranges[n - 1], hi);
+            return ranges;
+        }
+        char[] result = Arrays.copyOf(ranges, n + 2);
+        result[n] = lo;
+        result[n + 1] = hi;
+        return result;
+    }
+
+    private static void appendClass(StringBuilder sb, char[] ranges) {
+        sb.append('[');
+        for (int i = 0; i < ranges.length; i += 2) {
+            appendEscaped(sb, ranges[i]);
+            if (ranges[i + 1] != ranges[i]) {
+                sb.append('-');
+                appendEscaped(sb, ranges[i + 1]);
+            }
+        }
+        sb.append(']');
+    }
+
+    private static void appendEscaped(StringBuilder sb, char c) {
+        sb.append(String.format("\\u%04X", (int) c));
+    }
+}
@@ -0,0 +1,97 @@
+package kr.sharenshare.utils.hangul;
+
+/**
+ * 한글 완성형 문자를 초성, 중성, 종성으로 분해한 결과를 담는 클래스 (char 필드 버전)
+ * HangulChar와 달리 박싱된 Character를 사용하지 않으며, 받침이 없으면 종성은 NO_JONGSEONG
+ * 음절별로 하나의 인스턴스만 존재하므로 Map, Set의 키로 사용해도 추가 할당이 없음
+ */
+public final class HangulSyllable {
+
+    // 받침 없음을 나타내는 종성 값 (HangulConstants.JONGSEONG[0]과 동일)
+    public static final char NO_JONGSEONG = '\0';
+
+    private final char syllable;   // 완성형 문자
+    private final char choseong;   // 초성
+    private final char jungseong;  // 중성
+    private final char jongseong;  // 종성 (받침 없으면 NO_JONGSEONG)
+
+    /**
+     * 11,172개 음절 인스턴스 (처음 사용할 때 초기화)
+     */
+    private static final class Cache {
+        static final HangulSyllable[] SYLLABLES;
+
+        static {
+            SYLLABLES = new HangulSyllable[HangulConstants.HANGUL_END - HangulConstants.HANGUL_START + 1];
+            for (char c = HangulConstants.HANGUL_START; c <= HangulConstants.HANGUL_END; c++) {
+                SYLLABLES[c - HangulConstants.HANGUL_START] = new HangulSyllable(c, Hangul.decomposePacked(c));
+            }
+        }
+    }
+
+    private HangulSyllable(char syllable, int packed) {
+        this.syllable = syllable;
+        this.choseong = HangulConstants.CHOSEONG[Hangul.packedChoseongIndex(packed)];
+        this.jungseong = HangulConstants.JUNGSEONG[Hangul.packedJungseongIndex(packed)];
+        this.jongseong = HangulConstants.JONGSEONG[Hangul.packedJongseongIndex(packed)];
+    }
+
+    /**
+     * 한글 완성형 문자의 분해 결과 반환, 한글 완성형이 아니면 null
+     * 예: '값' -> (ㄱ, ㅏ, ㅄ)
+     */
+    public static HangulSyllable of(char c) {
+        if (!Hangul.isHangul(c)) {
+            return null;
+        }
+        return Cache.SYLLABLES[c - HangulConstants.HANGUL_START];
+    }
+
+    public char getSyllable() {
+        return syllable;
+    }
+
+    public char getChoseong() {
+        return choseong;
+    }
+
+    public char getJungseong() {
+        return jungseong;
+    }
+
+    public char getJongseong() {
+        return jongseong;
+    }
+
+    public boolean hasBatchim() {
+        return jongseong != NO_JONGSEONG;
+    }
+
+    /**
+     * 같은 음절의 HangulChar 인스턴스로 변환
+     */
+    public HangulChar toHangulChar() {
+        return HangulChar.of(syllable);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return syllable == ((HangulSyllable) o).syllable;
+    }
+
+    @Override
+    public int hashCode() {
+        return syllable;
+    }
+
+    @Override
+    public String toString() {
+        return "HangulSyllable{" +
+                "choseong=" + choseong +
+                ", jungseong=" + jungseong +
+                ", jongseong=" + (hasBatchim() ? String.valueOf(jongseong) : "null") +
+                '}';
+    }
+}
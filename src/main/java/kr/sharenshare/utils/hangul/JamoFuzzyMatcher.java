@@ -0,0 +1,204 @@
+package kr.sharenshare.utils.hangul;
+
+import java.util.Arrays;
+
+/**
+ * 자모 단위 편집 거리로 비교하는 퍼지 매처
+ * 검색어를 Hangul.disassemble로 분해해 자모별 일치 비트 벡터(Peq)를 미리 만들어 두고,
+ * 후보 문자열은 한 글자씩 분해하면서 Myers/Hyyrö 비트 병렬 알고리즘으로 64자모씩 한 번에 계산
+ * 불변 객체이므로 여러 스레드에서 공유 가능
+ * 예: compile("사과").distance("사가") -> 1 (ㅅㅏㄱㅗㅏ / ㅅㅏㄱㅏ)
+ */
+public final class JamoFuzzyMatcher {
+
+    private static final int COMPAT_JAMO_ROWS = HangulConstants.COMPAT_JAMO_COUNT;
+
+    private final String query;
+    // 검색어 자모 수와 64비트 블록 수
+    private final int length;
+    private final int blocks;
+    // 마지막 블록에서 검색어 마지막 자모의 비트
+    private final long lastBit;
+    // Peq 행: 호환 자모는 (c - COMPAT_JAMO_START), 그 밖의 문자는 COMPAT_JAMO_ROWS + otherChars에서의 위치
+    private final char[] otherChars;
+    private final long[] peq;
+
+    private JamoFuzzyMatcher(String query, char[] jamo) {
+        this.query = query;
+        this.length = jamo.length;
+        this.blocks = Math.max(1, (length + 63) >>> 6);
+        this.lastBit = length == 0 ? 0L : 1L << ((length - 1) & 63);
+
+        char[] others = new char[length];
+        int otherCount = 0;
+        for (char c : jamo) {
+            if (!Hangul.isCompatJamo(c)) {
+                others[otherCount++] = c;
+            }
+        }
+        Arrays.sort(others, 0, otherCount);
+        int distinct = 0;
+        for (int i = 0; i < otherCount; i++) {
+            if (distinct == 0 || others[distinct - 1] != others[i]) {
+                others[distinct++] = others[i];
+            }
+        }
+        this.otherChars = Arrays.copyOf(others, distinct);
+
+        this.peq = new long[(COMPAT_JAMO_ROWS + distinct) * blocks];
+        for (int i = 0; i < length; i++) {
+            peq[row(jamo[i]) * blocks + (i >>> 6)] |= 1L << (i & 63);
+        }
+    }
+
+    /**
+     * 검색어를 자모로 분해해 컴파일
+     */
+    public static JamoFuzzyMatcher compile(String query) {
+        if (query == null) {
+            throw new IllegalArgumentException("query is null");
+        }
+        return new JamoFuzzyMatcher(query, Hangul.disassemble(query).toCharArray());
+    }
+
+    /**
+     * 후보 문자열과의 자모 단위 편집 거리 (삽입, 삭제, 치환 각 1)
+     */
+    public int distance(CharSequence candidate) {
+        return compute(candidate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 자모 단위 편집 거리가 maxDistance 이하인지 확인
+     * 길이 차이만으로 넘는지, 계산 도중 남은 자모로 줄일 수 없을 만큼 커졌는지 확인해 일찍 종료
+     */
+    public boolean matches(CharSequence candidate, int maxDistance) {
+        if (maxDistance < 0) {
+            return false;
+        }
+        return compute(candidate, maxDistance) <= maxDistance;
+    }
+
+    /**
+     * 검색어의 자모 수
+     */
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+
+    /**
+     * 편집 거리를 계산하되 limit을 넘는 것이 확실해지면 limit + 1을 반환
+     */
+    private int compute(CharSequence candidate, int limit) {
+        if (candidate == null) {
+            throw new IllegalArgumentException("candidate is null");
+        }
+        int remaining = 0;
+        for (int i = 0, len = candidate.length(); i < len; i++) {
+            remaining += Hangul.disassembledLength(candidate.charAt(i));
+        }
+        if (length == 0) {
+            return remaining;
+        }
+        if (limit != Integer.MAX_VALUE && Math.abs(remaining - length) > limit) {
+            return limit + 1;
+        }
+        char[] jamo = new char[5];
+        // score는 마지막 행(검색어 전체)과 지금까지 읽은 후보 자모 사이의 거리
+        // 한 열마다 최대 1씩 줄어들 수 있으므로 score - remaining이 limit을 넘으면 더 볼 필요 없음
+        int score = length;
+        if (blocks == 1) {
+            long pv = -1L;
+            long mv = 0L;
+            for (int i = 0, len = candidate.length(); i < len; i++) {
+                int count = Hangul.disassemble(candidate.charAt(i), jamo, 0);
+                for (int k = 0; k < count; k++) {
+                    int row = row(jamo[k]);
+                    long eq = row < 0 ? 0L : peq[row];
+                    long xv = eq | mv;
+                    long xh = (((eq & pv) + pv) ^ pv) | eq;
+                    long ph = mv | ~(xh | pv);
+                    long mh = pv & xh;
+                    if ((ph & lastBit) != 0) {
+                        score++;
+                    } else if ((mh & lastBit) != 0) {
+                        score--;
+                    }
+                    // 첫 행의 가로 차이는 항상 +1
+                    ph = (ph << 1) | 1L;
+                    mh <<= 1;
+                    pv = mh | ~(xv | ph);
+                    mv = ph & xv;
+                    if (--remaining < score - limit) {
+                        return limit + 1;
+                    }
+                }
+            }
+            return score;
+        }
+
+        long[] pv = new long[blocks];
+        long[] mv = new long[blocks];
+        Arrays.fill(pv, -1L);
+        for (int i = 0, len = candidate.length(); i < len; i++) {
+            int count = Hangul.disassemble(candidate.charAt(i), jamo, 0);
+            for (int k = 0; k < count; k++) {
+                score += advance(row(jamo[k]), pv, mv);
+                if (--remaining < score - limit) {
+                    return limit + 1;
+                }
+            }
+        }
+        return score;
+    }
+
+    /**
+     * 후보 자모 하나만큼 모든 블록을 진행하고 마지막 행의 가로 차이(+1, 0, -1)를 반환
+     * 블록 사이에는 윗 블록의 가로 차이를 다음 블록의 첫 행에 넘김 (Hyyrö 블록 방식)
+     */
+    private int advance(int row, long[] pvs, long[] mvs) {
+        int hin = 1;
+        int base = row * blocks;
+        for (int b = 0; b < blocks; b++) {
+            long eq = row < 0 ? 0L : peq[base + b];
+            long pv = pvs[b];
+            long mv = mvs[b];
+            long xv = eq | mv;
+            if (hin < 0) {
+                eq |= 1L;
+            }
+            long xh = (((eq & pv) + pv) ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+            long high = b == blocks - 1 ? lastBit : Long.MIN_VALUE;
+            int hout = (ph & high) != 0 ? 1 : (mh & high) != 0 ? -1 : 0;
+            ph <<= 1;
+            mh <<= 1;
+            if (hin < 0) {
+                mh |= 1L;
+            } else if (hin > 0) {
+                ph |= 1L;
+            }
+            pvs[b] = mh | ~(xv | ph);
+            mvs[b] = ph & xv;
+            hin = hout;
+        }
+        return hin;
+    }
+
+    /**
+     * 문자의 Peq 행 번호 (검색어에 없는 문자면 -1)
+     */
+    private int row(char c) {
+        if (Hangul.isCompatJamo(c)) {
+            return c - HangulConstants.COMPAT_JAMO_START;
+        }
+        int index = Arrays.binarySearch(otherChars, c);
+        return index >= 0 ? COMPAT_JAMO_ROWS + index : -1;
+    }
+}
@@ -0,0 +1,198 @@
+package kr.sharenshare.utils.hangul;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 자모 단위 편집 거리로 비슷한 단어를 찾는 사전
+ * 단어를 Hangul.disassemble로 분해해 JamoTrie에 담고, 검색어의 Levenshtein 오토마타를 비트 병렬로 시뮬레이션하며
+ * 트라이를 따라 내려가므로 오토마타가 살아 있는 노드만 방문 (사전 크기와 무관)
+ * 검색어는 63자모까지 가능
+ * 불변 객체이므로 여러 스레드에서 공유 가능
+ * 예: build(["사과", "사자", "바나나"]).suggest("사가", 1) -> ["사과"]
+ */
+public final class JamoLexicon {
+
+    // 상태 비트 0..m을 long 하나에 담으므로 검색어는 63자모까지
+    public static final int MAX_QUERY_LENGTH = 63;
+
+    final JamoTrie trie;
+    final StringTable words;
+
+    JamoLexicon(JamoTrie trie, StringTable words) {
+        this.trie = trie;
+        this.words = words;
+    }
+
+    /**
+     * 단어 목록으로 사전 생성 (중복 단어는 하나로 취급)
+     */
+    public static JamoLexicon build(Collection<String> words) {
+        if (words == null) {
+            throw new IllegalArgumentException("words is null");
+        }
+        Set<String> seen = new HashSet<String>();
+        List<String> unique = new ArrayList<String>(words.size());
+        for (String word : words) {
+            if (word == null) {
+                throw new IllegalArgumentException("word is null");
+            }
+            if (seen.add(word)) {
+                unique.add(word);
+            }
+        }
+        String[] wordArray = unique.toArray(new String[unique.size()]);
+        String[] keys = new String[wordArray.length];
+        for (int i = 0; i < wordArray.length; i++) {
+            keys[i] = Hangul.disassemble(wordArray[i]);
+        }
+        return new JamoLexicon(JamoTrie.build(keys, new long[wordArray.length]), StringTable.of(wordArray));
+    }
+
+    /**
+     * 자모 단위 편집 거리가 maxDistance 이하인 단어를 거리가 가까운 순서로 반환 (같으면 자모 순서)
+     */
+    public List<String> suggest(String query, int maxDistance) {
+        if (query == null) {
+            throw new IllegalArgumentException("query is null");
+        }
+        String jamo = Hangul.disassemble(query);
+        if (jamo.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Query exceeds " + MAX_QUERY_LENGTH + " jamo: " + query);
+        }
+        List<String> result = new ArrayList<String>();
+        if (maxDistance < 0) {
+            return result;
+        }
+        Search search = new Search(jamo, Math.min(maxDistance, MAX_QUERY_LENGTH + 1));
+        search.visit(JamoTrie.ROOT, 0);
+        long[] found = Arrays.copyOf(search.found, search.foundCount);
+        Arrays.sort(found);
+        for (long f : found) {
+            result.add(words.get(trie.entryIds.get((int) f)));
+        }
+        return result;
+    }
+
+    /**
+     * 사전의 단어 수
+     */
+    public int size() {
+        return words.size();
+    }
+
+    /**
+     * 검색 한 번의 상태
+     * states[depth * (k + 1) + d]: 지금까지 읽은 자모와 검색어 앞 i자모의 거리가 d 이하이면 비트 i가 켜짐
+     */
+    private final class Search {
+
+        private final int k;
+        private final int width;
+        private final long mask;
+        private final long acceptBit;
+        // 문자가 검색어 i번째(0부터) 자모와 같으면 비트 i + 1이 켜진 벡터
+        private final long[] jamoPeq = new long[HangulConstants.COMPAT_JAMO_COUNT];
+        private final char[] otherChars;
+        private final long[] otherPeq;
+        private long[] states;
+        // 찾은 항목: (거리 << 32) | 정렬 순서 번호
+        private long[] found = new long[16];
+        private int foundCount;
+
+        Search(String jamo, int k) {
+            int m = jamo.length();
+            this.k = k;
+            this.width = k + 1;
+            this.mask = m == 63 ? -1L : (1L << (m + 1)) - 1;
+            this.acceptBit = 1L << m;
+
+            char[] others = new char[m];
+            int otherCount = 0;
+            for (int i = 0; i < m; i++) {
+                char c = jamo.charAt(i);
+                if (Hangul.isCompatJamo(c)) {
+                    jamoPeq[c - HangulConstants.COMPAT_JAMO_START] |= 1L << (i + 1);
+                } else if (indexOf(others, otherCount, c) < 0) {
+                    others[otherCount++] = c;
+                }
+            }
+            this.otherChars = Arrays.copyOf(others, otherCount);
+            this.otherPeq = new long[otherCount];
+            for (int i = 0; i < m; i++) {
+                int index = indexOf(otherChars, otherCount, jamo.charAt(i));
+                if (index >= 0) {
+                    otherPeq[index] |= 1L << (i + 1);
+                }
+            }
+
+            this.states = new long[width * 16];
+            // 아무것도 읽지 않았을 때는 검색어 앞 d자모를 지우는 비용 d
+            for (int d = 0; d <= k; d++) {
+                states[d] = d >= 63 ? mask : ((1L << (d + 1)) - 1) & mask;
+            }
+        }
+
+        void visit(int node, int base) {
+            if (trie.terminalEnd.get(node) > trie.entryStart.get(node)) {
+                for (int d = 0; d <= k; d++) {
+                    if ((states[base + d] & acceptBit) != 0) {
+                        for (int e = trie.entryStart.get(node); e < trie.terminalEnd.get(node); e++) {
+                            addFound(((long) d << 32) | e);
+                        }
+                        break;
+                    }
+                }
+            }
+            int next = base + width;
+            if (next + width > states.length) {
+                states = Arrays.copyOf(states, states.length * 2);
+            }
+            for (int child = trie.firstChild.get(node); child != JamoTrie.NONE; child = trie.nextSibling.get(child)) {
+                long eq = peq(trie.labels.get(child));
+                long previousOld = states[base];
+                long previousNew = (previousOld << 1) & eq;
+                states[next] = previousNew;
+                for (int d = 1; d <= k; d++) {
+                    long old = states[base + d];
+                    // 일치 | 후보 자모 삽입 | 치환 | 검색어 자모 삭제
+                    long current = (((old << 1) & eq) | previousOld | (previousOld << 1) | (previousNew << 1)) & mask;
+                    states[next + d] = current;
+                    previousOld = old;
+                    previousNew = current;
+                }
+                if (states[next + k] != 0) {
+                    visit(child, next);
+                }
+            }
+        }
+
+        private long peq(char c) {
+            if (Hangul.isCompatJamo(c)) {
+                return jamoPeq[c - HangulConstants.COMPAT_JAMO_START];
+            }
+            int index = indexOf(otherChars, otherChars.length, c);
+            return index >= 0 ? otherPeq[index] : 0L;
+        }
+
+        private void addFound(long value) {
+            if (foundCount == found.length) {
+                found = Arrays.copyOf(found, foundCount * 2);
+            }
+            found[foundCount++] = value;
+        }
+    }
+
+    private static int indexOf(char[] chars, int length, char c) {
+        for (int i = 0; i < length; i++) {
+            if (chars[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
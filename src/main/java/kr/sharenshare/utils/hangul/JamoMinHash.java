@@ -0,0 +1,172 @@
+package kr.sharenshare.utils.hangul;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 자모 k-gram의 MinHash 서명 생성기 (거의 같은 문자열 찾기용)
+ * 문자열을 Hangul.disassemble 순서의 자모로 풀면서 공백을 건너뛰고, 연속한 k개 자모를 롤링 해시로 한 번에 갱신하므로
+ * 입력 길이에 비례하는 시간에 중간 문자열 없이 서명을 만듦
+ * 받침 하나나 띄어쓰기만 다른 문자열은 대부분의 k-gram을 공유하므로 서명이 비슷함
+ * 불변 객체이므로 여러 스레드에서 공유 가능
+ * 예: similarity(signature("닭갈비 맛집"), signature("닭갈빗 맛집")) -> 약 0.67 (자모 3-gram Jaccard 유사도 10/15)
+ */
+public final class JamoMinHash {
+
+    public static final int DEFAULT_SHINGLE_SIZE = 3;
+    public static final int DEFAULT_HASH_COUNT = 64;
+
+    // 롤링 해시의 밑 (홀수)
+    private static final long BASE = 0x100000001B3L;
+
+    private final int shingleSize;
+    // 해시 함수 i: (multipliers[i] * x + increments[i]) >>> 32
+    private final long[] multipliers;
+    private final long[] increments;
+    // BASE^(shingleSize - 1), 빠지는 자모의 기여분
+    private final long outgoingFactor;
+
+    private JamoMinHash(int shingleSize, long[] multipliers, long[] increments) {
+        this.shingleSize = shingleSize;
+        this.multipliers = multipliers;
+        this.increments = increments;
+        long factor = 1;
+        for (int i = 1; i < shingleSize; i++) {
+            factor *= BASE;
+        }
+        this.outgoingFactor = factor;
+    }
+
+    /**
+     * 자모 3-gram, 해시 64개
+     */
+    public static JamoMinHash create() {
+        return create(DEFAULT_SHINGLE_SIZE, DEFAULT_HASH_COUNT, 0);
+    }
+
+    /**
+     * shingleSize 자모 k-gram과 hashCount개 해시 함수로 생성
+     * 같은 인자로 만든 객체는 같은 서명을 만드므로 서명을 저장해 두고 나중에 비교 가능
+     */
+    public static JamoMinHash create(int shingleSize, int hashCount, long seed) {
+        if (shingleSize <= 0) {
+            throw new IllegalArgumentException("shingleSize must be positive: " + shingleSize);
+        }
+        if (hashCount <= 0) {
+            throw new IllegalArgumentException("hashCount must be positive: " + hashCount);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] multipliers = new long[hashCount];
+        long[] increments = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            multipliers[i] = random.nextLong() | 1;
+            increments[i] = random.nextLong();
+        }
+        return new JamoMinHash(shingleSize, multipliers, increments);
+    }
+
+    /**
+     * 서명 생성 (해시 함수별 최솟값을 부호 없는 32비트로 담은 배열)
+     * 자모가 shingleSize보다 적으면 전체를 k-gram 하나로 취급하며, 빈 문자열은 모든 값이 -1(부호 없는 최댓값)
+     */
+    public int[] signature(CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException("text is null");
+        }
+        int[] signature = new int[multipliers.length];
+        signature(text, signature, 0);
+        return signature;
+    }
+
+    /**
+     * 서명을 dst의 dstOffset 위치부터 hashCount()개 기록 (여러 서명을 배열 하나에 모을 때 사용)
+     */
+    public void signature(CharSequence text, int[] dst, int dstOffset) {
+        if (text == null) {
+            throw new IllegalArgumentException("text is null");
+        }
+        int hashCount = multipliers.length;
+        long[] min = new long[hashCount];
+        Arrays.fill(min, 0xFFFFFFFFL);
+
+        char[] window = new char[shingleSize];
+        char[] jamo = new char[5];
+        long hash = 0;
+        int count = 0;
+        for (int i = 0, len = text.length(); i < len; i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            int jamoCount = Hangul.disassemble(c, jamo, 0);
+            for (int j = 0; j < jamoCount; j++) {
+                int slot = count % shingleSize;
+                if (count >= shingleSize) {
+                    hash -= window[slot] * outgoingFactor;
+                }
+                window[slot] = jamo[j];
+                hash = hash * BASE + jamo[j];
+                count++;
+                if (count >= shingleSize) {
+                    update(min, hash);
+                }
+            }
+        }
+        if (count > 0 && count < shingleSize) {
+            update(min, hash);
+        }
+        for (int i = 0; i < hashCount; i++) {
+            dst[dstOffset + i] = (int) min[i];
+        }
+    }
+
+    /**
+     * 두 서명에서 같은 값의 비율 (자모 k-gram 집합의 Jaccard 유사도 추정치)
+     */
+    public static double similarity(int[] a, int[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Signature lengths differ: " + a.length + " != " + b.length);
+        }
+        return similarity(a, 0, b, 0, a.length);
+    }
+
+    static double similarity(int[] a, int aOffset, int[] b, int bOffset, int length) {
+        int same = 0;
+        for (int i = 0; i < length; i++) {
+            if (a[aOffset + i] == b[bOffset + i]) {
+                same++;
+            }
+        }
+        return (double) same / length;
+    }
+
+    public int shingleSize() {
+        return shingleSize;
+    }
+
+    public int hashCount() {
+        return multipliers.length;
+    }
+
+    private void update(long[] min, long shingleHash) {
+        long x = mix(shingleHash);
+        for (int i = 0; i < min.length; i++) {
+            long h = (multipliers[i] * x + increments[i]) >>> 32;
+            if (h < min[i]) {
+                min[i] = h;
+            }
+        }
+    }
+
+    /**
+     * 롤링 해시 값을 고르게 섞음 (MurmurHash3 fmix64)
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
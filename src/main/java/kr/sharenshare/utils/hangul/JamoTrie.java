@@ -0,0 +1,287 @@
+package kr.sharenshare.utils.hangul;
+
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * 자모로 분해한 키를 노드 객체 없이 배열로 담는 트라이
+ * 노드는 전위 순회 순서로 번호를 매기며 첫 자식/다음 형제 배열로 연결
+ * 항목을 키 순서로 정렬해 두므로 한 노드 아래의 항목은 정렬 순서에서 연속된 구간 [entryStart, entryEnd)이고,
+ * 그중 키가 그 노드에서 끝나는 항목은 앞쪽 [entryStart, terminalEnd)
+ * maxWeight는 노드 아래 항목의 최대 가중치로, 가중치 순 탐색에서 상한으로 사용
+ * 배열은 버퍼로 읽으므로 힙 배열과 HangulIndexFile로 매핑한 파일을 같은 코드로 탐색
+ */
+final class JamoTrie {
+
+    static final int ROOT = 0;
+    static final int NONE = -1;
+
+    final CharBuffer labels;
+    final IntBuffer firstChild;
+    final IntBuffer nextSibling;
+    final LongBuffer maxWeight;
+    final IntBuffer entryStart;
+    final IntBuffer terminalEnd;
+    final IntBuffer entryEnd;
+    // 정렬 순서별 원래 항목 번호와 가중치
+    final IntBuffer entryIds;
+    final LongBuffer entryWeights;
+
+    JamoTrie(CharBuffer labels, IntBuffer firstChild, IntBuffer nextSibling, LongBuffer maxWeight,
+             IntBuffer entryStart, IntBuffer terminalEnd, IntBuffer entryEnd,
+             IntBuffer entryIds, LongBuffer entryWeights) {
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.nextSibling = nextSibling;
+        this.maxWeight = maxWeight;
+        this.entryStart = entryStart;
+        this.terminalEnd = terminalEnd;
+        this.entryEnd = entryEnd;
+        this.entryIds = entryIds;
+        this.entryWeights = entryWeights;
+    }
+
+    /**
+     * 자모 키와 가중치로 트라이 생성 (같은 키가 여러 번 나와도 각각 항목으로 유지)
+     */
+    static JamoTrie build(final String[] keys, long[] weights) {
+        int n = keys.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                int c = keys[a].compareTo(keys[b]);
+                return c != 0 ? c : Integer.compare(a, b);
+            }
+        });
+        int[] entryIds = new int[n];
+        long[] entryWeights = new long[n];
+        String[] sortedKeys = new String[n];
+        for (int i = 0; i < n; i++) {
+            entryIds[i] = order[i];
+            entryWeights[i] = weights[order[i]];
+            sortedKeys[i] = keys[order[i]];
+        }
+
+        Builder builder = new Builder(sortedKeys, entryWeights);
+        builder.build();
+        return builder.toTrie(entryIds, entryWeights);
+    }
+
+    /**
+     * 자식 중 label이 c인 노드 (없으면 NONE)
+     */
+    int child(int node, char c) {
+        for (int child = firstChild.get(node); child != NONE; child = nextSibling.get(child)) {
+            char label = labels.get(child);
+            if (label == c) {
+                return child;
+            }
+            if (label > c) {
+                break;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * 키 전체를 따라간 노드 (없으면 NONE)
+     */
+    int find(CharSequence key) {
+        int node = ROOT;
+        for (int i = 0, len = key.length(); i < len && node != NONE; i++) {
+            node = child(node, key.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * node 아래 항목 중 가중치가 큰 순서로 최대 k개의 정렬 순서 번호를 out에 기록하고 개수를 반환
+     * 가중치가 같으면 키 순서
+     */
+    int topK(int node, int k, int[] out, LongIntPriorityQueue heap) {
+        return topK(new int[]{node}, 1, k, out, heap);
+    }
+
+    /**
+     * 여러 노드 아래 항목을 합쳐 가중치가 큰 순서로 최대 k개의 정렬 순서 번호를 out에 기록하고 개수를 반환
+     * 다른 노드 아래에 있는 노드는 건너뛰므로 같은 항목이 두 번 나오지 않음
+     */
+    int topK(int[] nodes, int nodeCount, int k, int[] out, LongIntPriorityQueue heap) {
+        heap.clear();
+        int count = 0;
+        if (k <= 0) {
+            return 0;
+        }
+        // 노드는 ~node(음수)로, 항목은 정렬 순서 번호로 넣으므로 같은 가중치에서는 노드가 먼저 펼쳐짐
+        for (int i = 0; i < nodeCount; i++) {
+            int node = nodes[i];
+            if (node != NONE && entryStart.get(node) < entryEnd.get(node) && !coveredByOther(nodes, nodeCount, i)) {
+                heap.push(maxWeight.get(node), ~node);
+            }
+        }
+        while (!heap.isEmpty() && count < k) {
+            int item = heap.pop();
+            if (item >= 0) {
+                out[count++] = item;
+                continue;
+            }
+            int current = ~item;
+            for (int e = entryStart.get(current); e < terminalEnd.get(current); e++) {
+                heap.push(entryWeights.get(e), e);
+            }
+            for (int child = firstChild.get(current); child != NONE; child = nextSibling.get(child)) {
+                heap.push(maxWeight.get(child), ~child);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * nodes[index]가 다른 노드 아래에 있는지 (같은 노드가 여러 번 있으면 첫 번째만 남김)
+     */
+    private boolean coveredByOther(int[] nodes, int nodeCount, int index) {
+        int node = nodes[index];
+        for (int i = 0; i < nodeCount; i++) {
+            int other = nodes[i];
+            if (i == index || other == NONE) {
+                continue;
+            }
+            if (other == node ? i < index
+                    : entryStart.get(other) <= entryStart.get(node) && entryEnd.get(node) <= entryEnd.get(other)
+                    && (entryStart.get(other) < entryStart.get(node) || entryEnd.get(node) < entryEnd.get(other) || other < node)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int nodeCount() {
+        return labels.limit();
+    }
+
+    int entryCount() {
+        return entryIds.limit();
+    }
+
+    /**
+     * 정렬된 키 구간을 나누어 전위 순서로 노드를 만듦
+     */
+    private static final class Builder {
+
+        private final String[] keys;
+        private final long[] weights;
+        private char[] labels = new char[16];
+        private int[] firstChild = new int[16];
+        private int[] nextSibling = new int[16];
+        private long[] maxWeight = new long[16];
+        private int[] entryStart = new int[16];
+        private int[] terminalEnd = new int[16];
+        private int[] entryEnd = new int[16];
+        private int size;
+
+        Builder(String[] keys, long[] weights) {
+            this.keys = keys;
+            this.weights = weights;
+        }
+
+        /**
+         * 재귀 대신 스택으로 전위 순서대로 노드를 만듦 (키가 아주 길어도 호출 스택이 넘치지 않음)
+         */
+        void build() {
+            // (노드, 다음 자식 구간 시작, 깊이, 이전 자식)을 담는 스택
+            int[] stack = new int[64];
+            int top = 0;
+            int root = newNode('\0', 0, keys.length, 0);
+            stack[top++] = root;
+            stack[top++] = terminalEnd[root];
+            stack[top++] = 0;
+            stack[top++] = NONE;
+            while (top > 0) {
+                int node = stack[top - 4];
+                int i = stack[top - 3];
+                int depth = stack[top - 2];
+                int previous = stack[top - 1];
+                int hi = entryEnd[node];
+                if (i == hi) {
+                    // 자식을 모두 만들었으므로 부모의 maxWeight에 반영
+                    top -= 4;
+                    if (top > 0) {
+                        int parent = stack[top - 4];
+                        maxWeight[parent] = Math.max(maxWeight[parent], maxWeight[node]);
+                    }
+                    continue;
+                }
+                char c = keys[i].charAt(depth);
+                int j = i + 1;
+                while (j < hi && keys[j].charAt(depth) == c) {
+                    j++;
+                }
+                int child = newNode(c, i, j, depth + 1);
+                if (previous == NONE) {
+                    firstChild[node] = child;
+                } else {
+                    nextSibling[previous] = child;
+                }
+                stack[top - 3] = j;
+                stack[top - 1] = child;
+                if (top + 4 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = child;
+                stack[top++] = terminalEnd[child];
+                stack[top++] = depth + 1;
+                stack[top++] = NONE;
+            }
+        }
+
+        /**
+         * keys[lo, hi)는 앞 depth개 자모가 같음
+         * 구간과 그 노드에서 끝나는 항목을 기록하고, maxWeight는 끝나는 항목의 최대 가중치로 시작
+         */
+        private int newNode(char label, int lo, int hi, int depth) {
+            if (size == labels.length) {
+                int capacity = size * 2;
+                labels = Arrays.copyOf(labels, capacity);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                nextSibling = Arrays.copyOf(nextSibling, capacity);
+                maxWeight = Arrays.copyOf(maxWeight, capacity);
+                entryStart = Arrays.copyOf(entryStart, capacity);
+                terminalEnd = Arrays.copyOf(terminalEnd, capacity);
+                entryEnd = Arrays.copyOf(entryEnd, capacity);
+            }
+            labels[size] = label;
+            firstChild[size] = NONE;
+            nextSibling[size] = NONE;
+            entryStart[size] = lo;
+            entryEnd[size] = hi;
+            long max = Long.MIN_VALUE;
+            int i = lo;
+            while (i < hi && keys[i].length() == depth) {
+                max = Math.max(max, weights[i]);
+                i++;
+            }
+            terminalEnd[size] = i;
+            maxWeight[size] = max;
+            return size++;
+        }
+
+        JamoTrie toTrie(int[] entryIds, long[] entryWeights) {
+            return new JamoTrie(
+                    CharBuffer.wrap(Arrays.copyOf(labels, size)),
+                    IntBuffer.wrap(Arrays.copyOf(firstChild, size)),
+                    IntBuffer.wrap(Arrays.copyOf(nextSibling, size)),
+                    LongBuffer.wrap(Arrays.copyOf(maxWeight, size)),
+                    IntBuffer.wrap(Arrays.copyOf(entryStart, size)),
+                    IntBuffer.wrap(Arrays.copyOf(terminalEnd, size)),
+                    IntBuffer.wrap(Arrays.copyOf(entryEnd, size)),
+                    IntBuffer.wrap(entryIds), LongBuffer.wrap(entryWeights));
+        }
+    }
+}
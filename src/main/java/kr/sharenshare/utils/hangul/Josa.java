@@ -61,11 +61,8 @@ public final class Josa {
         }
 
         // ㄹ 받침 예외 처리
-        if (isRoJosaType(josaType) && Hangul.isHangul(lastChar)) {
-            HangulChar hangulChar = Hangul.disassembleCompleteCharacter(lastChar);
-            if (hangulChar != null && hangulChar.getJongseong() != null && hangulChar.getJongseong() == 'ㄹ') {
-                return word + josaType.withoutBatchim;
-            }
+        if (isRoJosaType(josaType) && hasRieulBatchim(lastChar)) {
+            return word + josaType.withoutBatchim;
         }
 
         // "이에요/예요" 특수 처리: "이"로 끝나는 단어 예외
@@ -139,11 +136,8 @@ public final class Josa {
         }
 
         // ㄹ 받침 예외 처리
-        if (isRoJosaType(josaType) && Hangul.isHangul(lastChar)) {
-            HangulChar hangulChar = Hangul.disassembleCompleteCharacter(lastChar);
-            if (hangulChar != null && hangulChar.getJongseong() != null && hangulChar.getJongseong() == 'ㄹ') {
-                return josaType.withoutBatchim;
-            }
+        if (isRoJosaType(josaType) && hasRieulBatchim(lastChar)) {
+            return josaType.withoutBatchim;
         }
 
         // "이에요/예요" 특수 처리: "이"로 끝나는 단어 예외
@@ -166,6 +160,14 @@ public final class Josa {
         return false;
     }
 
+    /**
+     * ㄹ 받침으로 끝나는 한글 완성형 문자인지 확인
+     */
+    private static boolean hasRieulBatchim(char c) {
+        int packed = Hangul.decomposePacked(c);
+        return packed >= 0 && HangulConstants.JONGSEONG[Hangul.packedJongseongIndex(packed)] == 'ㄹ';
+    }
+
     /**
      * 영어 알파벳을 한글 발음으로 변환
      */
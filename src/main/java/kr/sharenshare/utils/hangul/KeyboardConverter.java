@@ -20,8 +20,8 @@ public final class KeyboardConverter {
 
         StringBuilder result = new StringBuilder();
         for (char c : str.toCharArray()) {
-            Character hangul = HangulConstants.QWERTY_TO_HANGUL_MAP.get(c);
-            if (hangul != null) {
+            char hangul = HangulConstants.qwertyToJamo(c);
+            if (hangul != '\0') {
                 result.append(hangul);
             } else {
                 result.append(c);
@@ -51,8 +51,8 @@ public final class KeyboardConverter {
 
         StringBuilder result = new StringBuilder();
         for (char c : str.toCharArray()) {
-            Character qwerty = HangulConstants.HANGUL_TO_QWERTY_MAP.get(c);
-            if (qwerty != null) {
+            char qwerty = HangulConstants.jamoToQwerty(c);
+            if (qwerty != '\0') {
                 result.append(qwerty);
             } else {
                 result.append(c);
@@ -77,8 +77,8 @@ public final class KeyboardConverter {
         
         StringBuilder result = new StringBuilder();
         for (char c : disassembled.toCharArray()) {
-            Character qwerty = HangulConstants.HANGUL_TO_QWERTY_MAP.get(c);
-            if (qwerty != null) {
+            char qwerty = HangulConstants.jamoToQwerty(c);
+            if (qwerty != '\0') {
                 result.append(qwerty);
             } else {
                 result.append(c);
@@ -101,8 +101,8 @@ public final class KeyboardConverter {
 
         StringBuilder result = new StringBuilder();
         for (char c : str.toCharArray()) {
-            Character hangul = HangulConstants.QWERTY_TO_HANGUL_MAP.get(c);
-            if (hangul != null) {
+            char hangul = HangulConstants.qwertyToJamo(c);
+            if (hangul != '\0') {
                 result.append(hangul);
             } else {
                 result.append(c);
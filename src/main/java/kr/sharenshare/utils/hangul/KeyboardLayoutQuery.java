@@ -0,0 +1,189 @@
+package kr.sharenshare.utils.hangul;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 자판을 잘못 둔 채 입력한 검색어까지 함께 찾기 위한 검색어
+ * 검색어를 한 번 읽으면서 입력한 그대로, QWERTY를 한글로 바꾼 것(KeyboardConverter.convertQwertyToHangul),
+ * 한글을 QWERTY로 바꾼 것(KeyboardConverter.convertHangulToQwerty)과 각각의 초성, 자모를 모두 만들어 두고
+ * 색인에는 서로 다른 해석을 한꺼번에 넘김
+ * 예: of("dkssud").search(index) -> "안녕"과 "dkssud" 중 하나라도 초성이 일치하는 문서
+ */
+public final class KeyboardLayoutQuery {
+
+    private final String query;
+    private final String hangul;
+    private final String qwerty;
+    // 서로 다른 해석의 초성과 자모 (입력한 그대로가 처음)
+    private final String[] choseongKeys;
+    private final CharSequence[] jamoKeys;
+    private final List<String> interpretations;
+
+    private KeyboardLayoutQuery(String query, String hangul, String qwerty,
+                                String[] choseongKeys, CharSequence[] jamoKeys, List<String> interpretations) {
+        this.query = query;
+        this.hangul = hangul;
+        this.qwerty = qwerty;
+        this.choseongKeys = choseongKeys;
+        this.jamoKeys = jamoKeys;
+        this.interpretations = interpretations;
+    }
+
+    /**
+     * 검색어의 여러 해석을 한 번에 만듦
+     */
+    public static KeyboardLayoutQuery of(String query) {
+        if (query == null) {
+            throw new IllegalArgumentException("query is null");
+        }
+        int length = query.length();
+        StringBuilder queryChoseong = new StringBuilder(length);
+        StringBuilder queryJamo = new StringBuilder(length * 3);
+        StringBuilder hangul = new StringBuilder(length);
+        StringBuilder hangulChoseong = new StringBuilder(length);
+        StringBuilder hangulJamo = new StringBuilder(length);
+        StringBuilder qwerty = new StringBuilder(length * 3);
+        HangulAssembler assembler = new HangulAssembler();
+        char[] jamo = new char[5];
+
+        for (int i = 0; i < length; i++) {
+            char c = query.charAt(i);
+            queryChoseong.append(Hangul.choseongOf(c));
+            int count = Hangul.disassemble(c, jamo, 0);
+            queryJamo.append(jamo, 0, count);
+            for (int k = 0; k < count; k++) {
+                char key = HangulConstants.jamoToQwerty(jamo[k]);
+                qwerty.append(key != '\0' ? key : jamo[k]);
+            }
+
+            char converted = HangulConstants.qwertyToJamo(c);
+            if (converted != '\0') {
+                hangulJamo.append(converted);
+            } else {
+                converted = c;
+                hangulJamo.append(jamo, 0, count);
+            }
+            appendEmitted(assembler, assembler.feed(converted), hangul, hangulChoseong);
+        }
+        appendEmitted(assembler, assembler.flush(), hangul, hangulChoseong);
+
+        String hangulText = hangul.toString();
+        String qwertyText = qwerty.toString();
+        List<String> interpretations = new ArrayList<String>(3);
+        List<String> choseongKeys = new ArrayList<String>(3);
+        List<CharSequence> jamoKeys = new ArrayList<CharSequence>(3);
+        interpretations.add(query);
+        choseongKeys.add(queryChoseong.toString());
+        jamoKeys.add(queryJamo);
+        if (!interpretations.contains(hangulText)) {
+            interpretations.add(hangulText);
+            choseongKeys.add(hangulChoseong.toString());
+            jamoKeys.add(hangulJamo);
+        }
+        if (!interpretations.contains(qwertyText)) {
+            // QWERTY로 바꾼 결과에는 한글이 남지 않으므로 초성, 자모 모두 그대로
+            interpretations.add(qwertyText);
+            choseongKeys.add(qwertyText);
+            jamoKeys.add(qwertyText);
+        }
+        return new KeyboardLayoutQuery(query, hangulText, qwertyText,
+                choseongKeys.toArray(new String[choseongKeys.size()]),
+                jamoKeys.toArray(new CharSequence[jamoKeys.size()]),
+                Collections.unmodifiableList(interpretations));
+    }
+
+    private static void appendEmitted(HangulAssembler assembler, int count, StringBuilder text, StringBuilder choseong) {
+        for (int k = 0; k < count; k++) {
+            char c = assembler.emitted(k);
+            text.append(c);
+            choseong.append(Hangul.choseongOf(c));
+        }
+    }
+
+    /**
+     * 입력한 그대로의 검색어
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * QWERTY를 한글로 바꾼 해석
+     * 예: "dkssud" -> "안녕"
+     */
+    public String getHangul() {
+        return hangul;
+    }
+
+    /**
+     * 한글을 QWERTY로 바꾼 해석
+     * 예: "ㅁㅔㅔㅣㄷ" -> "apple"
+     */
+    public String getQwerty() {
+        return qwerty;
+    }
+
+    /**
+     * 서로 다른 해석 목록 (입력한 그대로가 처음)
+     */
+    public List<String> interpretations() {
+        return interpretations;
+    }
+
+    /**
+     * 해석 중 하나라도 초성이 일치하는 문서 번호를 오름차순으로 반환
+     */
+    public int[] search(ChoseongIndex index) {
+        return search(index, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 해석 중 하나라도 초성이 일치하는 문서 번호를 오름차순으로 최대 limit개 반환
+     */
+    public int[] search(ChoseongIndex index, int limit) {
+        int[] result = index.search(choseongKeys[0], limit);
+        for (int i = 1; i < choseongKeys.length; i++) {
+            result = union(result, index.search(choseongKeys[i], limit), limit);
+        }
+        return result;
+    }
+
+    /**
+     * 해석 중 하나로 시작하는 단어를 합쳐 가중치가 큰 순서로 최대 k개 반환
+     * 모든 해석을 하나의 힙에서 함께 탐색하므로 결과를 따로 구해 합치지 않음
+     */
+    public List<String> complete(HangulAutocomplete autocomplete, int k) {
+        return autocomplete.completeJamo(jamoKeys, jamoKeys.length, k, new LongIntPriorityQueue(16));
+    }
+
+    @Override
+    public String toString() {
+        return interpretations.toString();
+    }
+
+    /**
+     * 정렬된 두 배열의 합집합 중 앞의 limit개
+     */
+    private static int[] union(int[] a, int[] b, int limit) {
+        int[] result = new int[(int) Math.min((long) a.length + b.length, limit)];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (count < result.length && (i < a.length || j < b.length)) {
+            int next;
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                next = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                next = b[j++];
+            } else {
+                next = a[i++];
+                j++;
+            }
+            result[count++] = next;
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+}
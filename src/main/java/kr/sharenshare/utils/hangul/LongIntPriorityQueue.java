@@ -0,0 +1,96 @@
+package kr.sharenshare.utils.hangul;
+
+import java.util.Arrays;
+
+/**
+ * long 우선순위와 int 값을 박싱 없이 담는 최대 힙
+ * 우선순위가 높은 것부터, 같으면 값이 작은 것부터 꺼냄
+ * clear 후 다시 쓸 수 있으므로 검색마다 새로 만들 필요 없음
+ */
+final class LongIntPriorityQueue {
+
+    private long[] priorities;
+    private int[] items;
+    private int size;
+
+    LongIntPriorityQueue(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 4);
+        priorities = new long[capacity];
+        items = new int[capacity];
+    }
+
+    void push(long priority, int item) {
+        if (size == items.length) {
+            priorities = Arrays.copyOf(priorities, size * 2);
+            items = Arrays.copyOf(items, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(priority, item, priorities[parent], items[parent])) {
+                break;
+            }
+            priorities[i] = priorities[parent];
+            items[i] = items[parent];
+            i = parent;
+        }
+        priorities[i] = priority;
+        items[i] = item;
+    }
+
+    /**
+     * 가장 앞의 값을 꺼냄 (비어 있으면 IllegalStateException)
+     */
+    int pop() {
+        if (size == 0) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        int top = items[0];
+        long priority = priorities[--size];
+        int item = items[size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && before(priorities[right], items[right], priorities[child], items[child])) {
+                child = right;
+            }
+            if (!before(priorities[child], items[child], priority, item)) {
+                break;
+            }
+            priorities[i] = priorities[child];
+            items[i] = items[child];
+            i = child;
+        }
+        priorities[i] = priority;
+        items[i] = item;
+        return top;
+    }
+
+    /**
+     * 가장 앞의 우선순위 (비어 있으면 IllegalStateException)
+     */
+    long peekPriority() {
+        if (size == 0) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        return priorities[0];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    private static boolean before(long p1, int i1, long p2, int i2) {
+        return p1 > p2 || (p1 == p2 && i1 < i2);
+    }
+}
@@ -0,0 +1,208 @@
+package kr.sharenshare.utils.hangul;
+
+import java.util.Arrays;
+
+/**
+ * JamoMinHash 서명을 띠(band)로 나눈 LSH 색인 (거의 같은 문자열 후보 찾기용)
+ * 서명을 bands개 띠로 나누고 띠마다 값을 해시한 키로 문서를 묶으므로, 한 띠라도 같은 문서만 후보로 확인
+ * 띠별 키는 LongIntHashMap에, 같은 키의 문서 목록은 int 배열 연결 목록에 담아 문서 수에 비례하는 메모리만 사용
+ * 문서 번호는 add한 순서 (0부터)
+ * 내부 상태를 바꾸므로 여러 스레드에서 동시에 사용할 수 없음
+ * 예: index.add("닭갈비 맛집"); index.findSimilar("닭갈빗 맛집", 0.5) -> [0]
+ */
+public final class MinHashLshIndex {
+
+    private static final int NONE = -1;
+    private static final long BASE = 0x100000001B3L;
+    // 문서 4096개씩 한 페이지에 담으므로 문서 수 * 해시 수가 int 범위를 넘어도 됨
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final JamoMinHash minHash;
+    private final int bands;
+    private final int rows;
+    // 띠별 키 -> 그 키의 마지막 문서 번호
+    private final LongIntHashMap[] heads;
+    // 문서 id, 띠 b의 같은 키 이전 문서 번호는 nextPages[page(id)][slot(id) * bands + b]
+    private int[][] nextPages;
+    // 문서 id의 서명은 signaturePages[page(id)]의 slot(id) * hashCount부터 hashCount개
+    private int[][] signaturePages;
+    // 후보 중복 제거용 (seen[id] == stamp이면 이번 질의에서 이미 본 문서)
+    private int[] seen;
+    private int stamp;
+    private int size;
+
+    private MinHashLshIndex(JamoMinHash minHash, int bands) {
+        this.minHash = minHash;
+        this.bands = bands;
+        this.rows = minHash.hashCount() / bands;
+        this.heads = new LongIntHashMap[bands];
+        for (int b = 0; b < bands; b++) {
+            heads[b] = new LongIntHashMap(1024);
+        }
+        this.nextPages = new int[0][];
+        this.signaturePages = new int[0][];
+        this.seen = new int[16];
+    }
+
+    /**
+     * minHash 서명을 bands개 띠로 나누는 색인 생성 (hashCount는 bands로 나누어떨어져야 함)
+     * 띠가 많을수록(한 띠의 행이 적을수록) 덜 비슷한 문서도 후보가 됨
+     * 예: 해시 64개, 띠 16개(4행)이면 유사도 0.5인 문서가 후보가 될 확률은 약 0.64, 0.7이면 약 0.99
+     */
+    public static MinHashLshIndex create(JamoMinHash minHash, int bands) {
+        if (minHash == null) {
+            throw new IllegalArgumentException("minHash is null");
+        }
+        if (bands <= 0 || minHash.hashCount() % bands != 0) {
+            throw new IllegalArgumentException("bands must divide hashCount " + minHash.hashCount() + ": " + bands);
+        }
+        return new MinHashLshIndex(minHash, bands);
+    }
+
+    /**
+     * 문자열을 등록하고 문서 번호를 반환
+     */
+    public int add(CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException("text is null");
+        }
+        int id = size;
+        ensureCapacity(id + 1);
+        minHash.signature(text, signaturePages[id >>> PAGE_SHIFT], (id & PAGE_MASK) * minHash.hashCount());
+        link(id);
+        return id;
+    }
+
+    /**
+     * 이미 계산한 서명을 등록하고 문서 번호를 반환
+     */
+    public int add(int[] signature) {
+        checkSignature(signature);
+        int id = size;
+        ensureCapacity(id + 1);
+        System.arraycopy(signature, 0, signaturePages[id >>> PAGE_SHIFT], (id & PAGE_MASK) * signature.length,
+                signature.length);
+        link(id);
+        return id;
+    }
+
+    /**
+     * 한 띠라도 서명이 같은 문서 번호를 오름차순으로 반환
+     */
+    public int[] candidates(CharSequence text) {
+        return collect(minHash.signature(text), -1);
+    }
+
+    /**
+     * 후보 중 추정 유사도가 threshold 이상인 문서 번호를 오름차순으로 반환
+     */
+    public int[] findSimilar(CharSequence text, double threshold) {
+        return findSimilar(minHash.signature(text), threshold);
+    }
+
+    /**
+     * 이미 계산한 서명으로 findSimilar
+     */
+    public int[] findSimilar(int[] signature, double threshold) {
+        checkSignature(signature);
+        return collect(signature, threshold);
+    }
+
+    /**
+     * 문서의 추정 유사도
+     */
+    public double similarity(int id, int[] signature) {
+        checkSignature(signature);
+        if (id < 0 || id >= size) {
+            throw new IllegalArgumentException("Invalid id: " + id);
+        }
+        return JamoMinHash.similarity(signaturePages[id >>> PAGE_SHIFT], (id & PAGE_MASK) * signature.length,
+                signature, 0, signature.length);
+    }
+
+    /**
+     * 등록한 문서 수
+     */
+    public int size() {
+        return size;
+    }
+
+    private int[] collect(int[] signature, double threshold) {
+        if (++stamp == 0) {
+            Arrays.fill(seen, 0);
+            stamp = 1;
+        }
+        int hashCount = signature.length;
+        int[] result = new int[16];
+        int count = 0;
+        for (int b = 0; b < bands; b++) {
+            long key = bandKey(signature, 0, b);
+            for (int id = heads[b].get(key); id != NONE; id = next(id, b)) {
+                if (seen[id] == stamp) {
+                    continue;
+                }
+                seen[id] = stamp;
+                if (threshold >= 0 && JamoMinHash.similarity(signaturePages[id >>> PAGE_SHIFT],
+                        (id & PAGE_MASK) * hashCount, signature, 0, hashCount) < threshold) {
+                    continue;
+                }
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, count * 2);
+                }
+                result[count++] = id;
+            }
+        }
+        result = Arrays.copyOf(result, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private void link(int id) {
+        int[] signaturePage = signaturePages[id >>> PAGE_SHIFT];
+        int[] nextPage = nextPages[id >>> PAGE_SHIFT];
+        int slot = id & PAGE_MASK;
+        for (int b = 0; b < bands; b++) {
+            long key = bandKey(signaturePage, slot * minHash.hashCount(), b);
+            nextPage[slot * bands + b] = heads[b].get(key);
+            heads[b].put(key, id);
+        }
+        size++;
+    }
+
+    private int next(int id, int b) {
+        return nextPages[id >>> PAGE_SHIFT][(id & PAGE_MASK) * bands + b];
+    }
+
+    /**
+     * 띠 b의 rows개 값을 해시한 키 (LongIntHashMap에 쓸 수 없는 0은 피함)
+     */
+    private long bandKey(int[] signature, int offset, int b) {
+        long h = b;
+        for (int i = offset + b * rows, end = i + rows; i < end; i++) {
+            h = h * BASE + (signature[i] & 0xFFFFFFFFL);
+        }
+        h ^= h >>> 31;
+        return h != 0 ? h : 1;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > seen.length) {
+            seen = Arrays.copyOf(seen, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(capacity, seen.length * 2L)));
+        }
+        int pageCount = (capacity + PAGE_MASK) >>> PAGE_SHIFT;
+        if (pageCount > signaturePages.length) {
+            signaturePages = Arrays.copyOf(signaturePages, pageCount);
+            nextPages = Arrays.copyOf(nextPages, pageCount);
+            signaturePages[pageCount - 1] = new int[PAGE_SIZE * minHash.hashCount()];
+            nextPages[pageCount - 1] = new int[PAGE_SIZE * bands];
+        }
+    }
+
+    private void checkSignature(int[] signature) {
+        if (signature == null || signature.length != minHash.hashCount()) {
+            throw new IllegalArgumentException("Signature must have " + minHash.hashCount() + " values");
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package kr.sharenshare.utils.hangul;
+
+/**
+ * 원문을 자모나 초성으로 바꾼 문자열과, 바꾼 문자열의 각 위치가 원문의 몇 번째 문자에서 왔는지를 담는 객체
+ * 자모/초성 공간에서 찾은 구간을 원문 구간으로 되돌려 강조 표시할 때 사용
+ * 예: Hangul.disassembleWithOffsets("닭고기")에서 "ㄷㅏㄹㄱ"(0..4)를 찾으면 sourceStart(0) = 0, sourceEnd(4) = 1 -> "닭"
+ */
+public final class ProjectedText {
+
+    private final String source;
+    private final String text;
+    // text의 위치별 원문 위치
+    private final int[] sourceIndexes;
+
+    ProjectedText(String source, String text, int[] sourceIndexes) {
+        this.source = source;
+        this.text = text;
+        this.sourceIndexes = sourceIndexes;
+    }
+
+    /**
+     * 원문
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * 바꾼 문자열
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * 바꾼 문자열의 길이
+     */
+    public int length() {
+        return text.length();
+    }
+
+    /**
+     * 바꾼 문자열의 index 위치 문자가 나온 원문 위치
+     */
+    public int sourceIndex(int index) {
+        if (index < 0 || index >= sourceIndexes.length) {
+            throw new IllegalArgumentException("Index out of range: " + index);
+        }
+        return sourceIndexes[index];
+    }
+
+    /**
+     * 바꾼 문자열의 구간 시작을 원문 구간 시작으로 변환 (length()이면 원문 길이)
+     */
+    public int sourceStart(int start) {
+        if (start == sourceIndexes.length) {
+            return source.length();
+        }
+        return sourceIndex(start);
+    }
+
+    /**
+     * 바꾼 문자열의 구간 끝(제외)을 원문 구간 끝(제외)으로 변환
+     * 글자 중간에서 끝나면 그 글자 전체를 포함
+     * 예: "닭"을 분해한 "ㄷㅏㄹㄱ"에서 "ㄷㅏ"(끝 2) -> 1
+     */
+    public int sourceEnd(int end) {
+        if (end == 0) {
+            return 0;
+        }
+        return sourceIndex(end - 1) + 1;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,719 @@
+package kr.sharenshare.utils.hangul;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 표준 발음 규칙을 객체 생성 없이 적용하는 엔진
+ * 어절의 음절을 Hangul.decomposePacked 형식(초성 << 10 | 중성 << 5 | 종성)의 int 배열에 담고,
+ * 규칙은 초성/종성 인덱스를 바꾸는 방식으로 적용하므로 음절마다 문자열을 만들지 않음
+ * PronunciationConstants의 규칙 표는 클래스 초기화 때 종성/중성 인덱스 비트와 byte 배열로 바꾸므로 규칙마다 배열 조회 몇 번으로 끝남
+ * 제16항 외의 규칙은 현재 종성과 다음 음절의 초성/중성 등에만 의존하므로, 음절 경계마다 적용 결과를 미리 계산한 표를 한 번 조회함
+ * 규칙의 순서와 조건은 기존 StandardizePronunciation 구현과 같으므로 결과도 같음
+ * 버퍼를 재사용하므로 스레드마다 하나씩 사용 (get)
+ */
+final class PronunciationEngine {
+
+    private static final ThreadLocal<PronunciationEngine> ENGINES = new ThreadLocal<PronunciationEngine>() {
+        @Override
+        protected PronunciationEngine initialValue() {
+            return new PronunciationEngine();
+        }
+    };
+
+    // 제16항에서 겹받침이 초성 자리로 옮겨진 경우의 초성 값 (CLUSTER_CHOSEONG + 종성 인덱스)
+    // 기존 구현은 이런 음절을 조합할 때 IllegalArgumentException을 던지므로 그대로 따름
+    private static final int CLUSTER_CHOSEONG = 32;
+
+    private static final byte NOT_FIXED = -1;
+    private static final byte INSIDE_FIXED = -2;
+
+    // 종성 인덱스별 기존 구현의 종성 문자열 (겹받침은 두 글자, 받침 없음은 빈 문자열)
+    private static final String[] JONG_STRINGS = jongStrings();
+    // 한글 자모 이름 두 글자 (제16항)
+    private static final int[] 한글_자모_이름 = pairKeys(PronunciationConstants.한글_자모);
+    private static final int[] 특별한_한글_자모_이름 = pairKeys(PronunciationConstants.특별한_한글_자모);
+
+    private static final int 초성_ㄱ = choseong('ㄱ');
+    private static final int 초성_ㄴ = choseong('ㄴ');
+    private static final int 초성_ㄷ = choseong('ㄷ');
+    private static final int 초성_ㄹ = choseong('ㄹ');
+    private static final int 초성_ㅁ = choseong('ㅁ');
+    private static final int 초성_ㅂ = choseong('ㅂ');
+    private static final int 초성_ㅅ = choseong('ㅅ');
+    private static final int 초성_ㅆ = choseong('ㅆ');
+    private static final int 초성_ㅇ = choseong(PronunciationConstants.음가가_없는_자음);
+    private static final int 초성_ㅈ = choseong('ㅈ');
+    private static final int 초성_ㅊ = choseong('ㅊ');
+    private static final int 초성_ㅎ = choseong('ㅎ');
+    private static final int 중성_ㅣ = HangulConstants.getJungseongIndex('ㅣ');
+    private static final int 종성_ㄱ = HangulConstants.getJongseongIndex('ㄱ');
+    private static final int 종성_ㄴ = HangulConstants.getJongseongIndex('ㄴ');
+    private static final int 종성_ㄶ = HangulConstants.getJongseongIndex('ㄶ');
+    private static final int 종성_ㄷ = HangulConstants.getJongseongIndex('ㄷ');
+    private static final int 종성_ㄹ = HangulConstants.getJongseongIndex('ㄹ');
+    private static final int 종성_ㄾ = HangulConstants.getJongseongIndex('ㄾ');
+    private static final int 종성_ㅀ = HangulConstants.getJongseongIndex('ㅀ');
+    private static final int 종성_ㅁ = HangulConstants.getJongseongIndex('ㅁ');
+    private static final int 종성_ㅇ = HangulConstants.getJongseongIndex('ㅇ');
+
+    // PronunciationConstants의 규칙 표를 인덱스 기준으로 바꾼 표
+    // 종성 집합은 (1 << 종성 인덱스) 비트, 중성 집합은 (1 << 중성 인덱스) 비트
+    private static final int 받침_ㅎ = jongMask(PronunciationConstants.발음변환_받침_ㅎ);
+    private static final int 첫소리_ㅎ_받침 = jongMask(PronunciationConstants.발음변환_첫소리_ㅎ);
+    private static final int 비음화_ㅇ_받침 = jongMask(PronunciationConstants.비음화_받침_ㅇ_변환);
+    private static final int 비음화_ㄴ_받침 = jongMask(PronunciationConstants.비음화_받침_ㄴ_변환);
+    private static final int 비음화_ㅁ_받침 = jongMask(PronunciationConstants.비음화_받침_ㅁ_변환);
+    private static final int 자음동화_ㄴ_받침 = jongMask(PronunciationConstants.자음동화_받침_ㄴ_변환);
+    private static final int 자음군_단순화 = jongMask(PronunciationConstants.자음군_단순화);
+    private static final int 된소리_받침 = jongMask(PronunciationConstants.된소리_받침);
+    private static final int 어간_받침 = jongMask(PronunciationConstants.어간_받침);
+    private static final int ㄴ이_덧나는_받침 = jongMask(PronunciationConstants.ㄴㄹ이_덧나서_받침_ㄴ_변환);
+    private static final int ㄹ이_덧나는_받침 = jongMask(PronunciationConstants.ㄴㄹ이_덧나서_받침_ㄹ_변환);
+    private static final int 겹받침 = clusterMask();
+    private static final int ㄴㄹ이_덧나는_모음 = jungMask(PronunciationConstants.ㄴㄹ이_덧나는_모음);
+    private static final int ㄴㄹ이_덧나는_후속음절_모음 = jungMask(PronunciationConstants.ㄴㄹ이_덧나는_후속음절_모음);
+    // 종성 -> 종성 (해당 없으면 -1)
+    private static final byte[] 대표음 = jongToJong(PronunciationConstants.받침_대표음_발음);
+    private static final byte[] 자음군_단순화_결과 = jongToJong(PronunciationConstants.자음군_단순화_결과);
+    // 종성 -> 다음 음절 초성 (해당 없으면 -1)
+    private static final byte[] 구개음화_초성 = jongToCho(PronunciationConstants.음의_동화_받침);
+    private static final byte[] 첫소리_ㅎ_초성 = jongToCho(PronunciationConstants.발음변환_첫소리_ㅎ_발음);
+    private static final byte[] 특별한_자모_초성 = jongFirstToCho(PronunciationConstants.특별한_한글_자모의_발음);
+    // 초성 -> 초성 (해당 없으면 -1, 겹받침이 옮겨진 초성은 첫 글자 기준)
+    private static final byte[] 된소리_초성 = choToCho(PronunciationConstants.된소리);
+    private static final byte[] 받침_ㅎ_초성 = choToCho(PronunciationConstants.발음변환_받침_ㅎ_발음);
+    // 종성별 변환: 겹받침의 앞 자음(홑받침은 받침 없음), 받침 ㅎ 제거, 다음 음절 초성으로 옮긴 값, 겹받침 뒤 자음의 연음
+    private static final byte[] 앞_받침 = new byte[HangulConstants.JONGSEONG_COUNT];
+    private static final byte[] ㅎ_제거 = new byte[HangulConstants.JONGSEONG_COUNT];
+    private static final byte[] 연음_초성 = new byte[HangulConstants.JONGSEONG_COUNT];
+    private static final byte[] 겹받침_연음_초성 = new byte[HangulConstants.JONGSEONG_COUNT];
+
+    static {
+        for (int jong = 0; jong < HangulConstants.JONGSEONG_COUNT; jong++) {
+            String jongString = JONG_STRINGS[jong];
+            boolean cluster = jongString.length() == 2;
+            앞_받침[jong] = (byte) (cluster ? HangulConstants.getJongseongIndex(jongString.charAt(0)) : 0);
+            ㅎ_제거[jong] = (byte) jongIndex(jongString.replace("ㅎ", ""));
+            if (cluster) {
+                char second = jongString.charAt(1);
+                연음_초성[jong] = (byte) (CLUSTER_CHOSEONG + jong);
+                겹받침_연음_초성[jong] = (byte) (second == 'ㅅ' ? 초성_ㅆ : choseong(second));
+            } else {
+                연음_초성[jong] = (byte) (jong == 0 ? -1 : choseong(jongString.charAt(0)));
+                겹받침_연음_초성[jong] = -1;
+            }
+        }
+    }
+
+    // 음절 경계 하나에 제16항을 뺀 규칙을 모두 적용한 결과 (TRANSITION_* 참고)
+    // 결과는 현재 음절의 종성과 다음 음절의 초성에만 영향을 주고, 나머지 입력은 아래 비트로 충분함
+    // 다음 음절 중성: ㅣ인지(1), ㄴㄹ이 덧나는 후속음절 모음인지(2)
+    private static final byte[] 다음_중성_구분 = new byte[HangulConstants.JUNGSEONG_COUNT];
+    // 다음 음절 종성: 받침 없음인지(1), 자음군 단순화 대상인지(2)
+    private static final byte[] 다음_종성_구분 = new byte[HangulConstants.JONGSEONG_COUNT];
+    // (경음화 << 5 | 현재 중성이 ㄴㄹ이 덧나는 모음인지 << 4 | 다음 종성 구분 << 2 | 다음 중성 구분) * 28 + 종성) * 19 + 다음 초성
+    // -> 새 종성 << 5 | 새 다음 초성 (해당 입력을 만드는 음절이 없으면 -1)
+    private static final short[] TRANSITIONS;
+    // 어절의 마지막 음절: 종성 -> 새 종성
+    private static final byte[] LAST_JONG = new byte[HangulConstants.JONGSEONG_COUNT];
+
+    static {
+        for (int jung = 0; jung < HangulConstants.JUNGSEONG_COUNT; jung++) {
+            다음_중성_구분[jung] = (byte) ((jung == 중성_ㅣ ? 1 : 0) | (in(ㄴㄹ이_덧나는_후속음절_모음, jung) ? 2 : 0));
+        }
+        for (int jong = 0; jong < HangulConstants.JONGSEONG_COUNT; jong++) {
+            다음_종성_구분[jong] = (byte) ((jong == 0 ? 1 : 0) | (in(자음군_단순화, jong) ? 2 : 0));
+        }
+
+        TRANSITIONS = new short[64 * HangulConstants.JONGSEONG_COUNT * HangulConstants.CHOSEONG_COUNT];
+        Arrays.fill(TRANSITIONS, (short) -1);
+        int[] s = new int[2];
+        for (int jung = 0; jung < HangulConstants.JUNGSEONG_COUNT; jung++) {
+            for (int nextJung = 0; nextJung < HangulConstants.JUNGSEONG_COUNT; nextJung++) {
+                for (int nextJong = 0; nextJong < HangulConstants.JONGSEONG_COUNT; nextJong++) {
+                    for (int hard = 0; hard < 2; hard++) {
+                        int context = hard << 5 | (in(ㄴㄹ이_덧나는_모음, jung) ? 16 : 0)
+                                | 다음_종성_구분[nextJong] << 2 | 다음_중성_구분[nextJung];
+                        // 같은 구분의 음절은 결과도 같으므로 처음 나온 음절로 한 번만 계산
+                        if (TRANSITIONS[transitionIndex(context, 0, 0)] >= 0) {
+                            continue;
+                        }
+                        for (int jong = 0; jong < HangulConstants.JONGSEONG_COUNT; jong++) {
+                            for (int nextCho = 0; nextCho < HangulConstants.CHOSEONG_COUNT; nextCho++) {
+                                s[0] = jung << 5 | jong;
+                                s[1] = nextCho << 10 | nextJung << 5 | nextJong;
+                                if (hard == 1) {
+                                    transformHardConversion(s, 0);
+                                }
+                                transformAfter16th(s, 0);
+                                TRANSITIONS[transitionIndex(context, jong, nextCho)] = (short) (jong(s[0]) << 5 | cho(s[1]));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        for (int jong = 0; jong < HangulConstants.JONGSEONG_COUNT; jong++) {
+            s[0] = jong;
+            transform12th(s, 0, false);
+            transform9And10And11th(s, 0, false);
+            LAST_JONG[jong] = (byte) jong(s[0]);
+        }
+    }
+
+    // 어절의 음절과 각 음절의 원문 위치
+    private int[] syllables = new int[16];
+    private int[] positions = new int[16];
+    private char[] out = new char[64];
+    // 문자(fixed)와 음절(fixedSyllables)별 예외 사전으로 바꾸었는지 여부
+    // 바꾼 단어의 마지막 음절은 다음 음절과의 경계에서 쓸 종성, 나머지는 INSIDE_FIXED, 바꾸지 않았으면 NOT_FIXED
+    private byte[] fixed = new byte[64];
+    private byte[] fixedSyllables = new byte[16];
+
+    private PronunciationEngine() {
+    }
+
+    /**
+     * 현재 스레드의 엔진
+     */
+    static PronunciationEngine get() {
+        return ENGINES.get();
+    }
+
+    /**
+     * 공백으로 나눈 어절마다 규칙을 적용한 문자열을 반환 (예외 단어 확인은 호출하는 쪽에서 함)
+     */
+    String standardize(String hangul, boolean hardConversion) {
+        int length = hangul.length();
+        ensureOut(length);
+        hangul.getChars(0, length, out, 0);
+        transformPhrases(length, hardConversion, false);
+        return new String(out, 0, length);
+    }
+
+    /**
+     * 왼쪽부터 예외 사전의 가장 긴 단어를 발음으로 바꾼 뒤 공백으로 나눈 어절마다 규칙을 적용
+     * 바꾼 단어 안의 음절에는 규칙을 적용하지 않고, 앞뒤 음절과의 경계에만 적용 (예: 깻잎을 -> 깬닙을 -> 깬니플)
+     * 뒤 음절과의 경계에서는 발음이 받침만 대표음으로 바뀐 경우 원래 받침을 씀 (잎의 ㅍ)
+     */
+    String standardize(String hangul, boolean hardConversion, PronunciationExceptions exceptions) {
+        int length = hangul.length();
+        ensureOut(length);
+        int written = 0;
+        for (int i = 0; i < length; ) {
+            int entry = exceptions.match(hangul, i, length);
+            if (entry < 0) {
+                ensureOut(written + 1);
+                out[written] = hangul.charAt(i);
+                fixed[written] = NOT_FIXED;
+                written++;
+                i++;
+                continue;
+            }
+            int replacementLength = exceptions.replacementLength(entry);
+            ensureOut(written + replacementLength);
+            exceptions.copyReplacement(entry, out, written);
+            Arrays.fill(fixed, written, written + replacementLength, INSIDE_FIXED);
+            i += exceptions.keyLength(entry);
+            written += replacementLength;
+            // 마지막 음절은 뒤 음절과의 경계에서 쓸 종성을 기록
+            int last = written - 1;
+            while (last >= written - replacementLength && Hangul.decomposePacked(out[last]) < 0) {
+                last--;
+            }
+            if (last >= written - replacementLength) {
+                int jong = jong(Hangul.decomposePacked(out[last]));
+                int original = Hangul.decomposePacked(hangul.charAt(i - 1));
+                fixed[last] = (byte) (original >= 0 && LAST_JONG[jong(original)] == jong ? jong(original) : jong);
+            }
+        }
+        transformPhrases(written, hardConversion, true);
+        return new String(out, 0, written);
+    }
+
+    /**
+     * out[0, length)를 공백으로 나눈 어절마다 규칙을 적용
+     */
+    private void transformPhrases(int length, boolean hardConversion, boolean withFixed) {
+        int phraseStart = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || out[i] == ' ') {
+                transformPhrase(phraseStart, i, hardConversion, withFixed);
+                phraseStart = i + 1;
+            }
+        }
+    }
+
+    private void ensureOut(int capacity) {
+        if (out.length < capacity) {
+            int newLength = Math.max(capacity, out.length * 2);
+            out = Arrays.copyOf(out, newLength);
+            fixed = Arrays.copyOf(fixed, newLength);
+        }
+    }
+
+    /**
+     * out[start, end)의 어절에 규칙을 적용하고 음절을 제자리에 다시 씀
+     * 한글 완성형이 아닌 문자는 그대로 두고 음절만 이어서 규칙을 적용
+     */
+    private void transformPhrase(int start, int end, boolean hardConversion, boolean withFixed) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            int packed = Hangul.decomposePacked(out[i]);
+            if (packed >= 0) {
+                if (count == syllables.length) {
+                    syllables = Arrays.copyOf(syllables, count * 2);
+                    positions = Arrays.copyOf(positions, count * 2);
+                    fixedSyllables = Arrays.copyOf(fixedSyllables, count * 2);
+                }
+                syllables[count] = packed;
+                positions[count] = i;
+                if (withFixed) {
+                    fixedSyllables[count] = fixed[i];
+                }
+                count++;
+            }
+        }
+
+        int[] s = syllables;
+        byte[] f = withFixed ? fixedSyllables : null;
+        int hard = hardConversion ? 32 : 0;
+        for (int i = 0; i < count - 1; i++) {
+            int cur = s[i];
+            int next = s[i + 1];
+            if (f != null && (f[i] != NOT_FIXED || f[i + 1] != NOT_FIXED)) {
+                if (f[i] == INSIDE_FIXED) {
+                    // 바꾼 단어 안의 경계
+                    continue;
+                }
+                if (f[i] != NOT_FIXED) {
+                    cur = withJong(cur, f[i]);
+                }
+            } else if (jong(cur) != 0 && cho(next) == 초성_ㅇ && isJamoName(i, start, end)) {
+                // 제16항은 어절의 문자에 따라 달라지므로 규칙을 차례로 적용
+                if (hardConversion) {
+                    transformHardConversion(s, i);
+                }
+                transform16th(s, i, start, end);
+                transformAfter16th(s, i);
+                continue;
+            }
+            int context = hard | (in(ㄴㄹ이_덧나는_모음, jung(cur)) ? 16 : 0)
+                    | 다음_종성_구분[jong(next)] << 2 | 다음_중성_구분[jung(next)];
+            int transition = TRANSITIONS[transitionIndex(context, jong(cur), cho(next))];
+            s[i] = withJong(cur, transition >>> 5);
+            s[i + 1] = withCho(next, transition & 0x1F);
+        }
+        if (count > 0 && (f == null || f[count - 1] == NOT_FIXED)) {
+            s[count - 1] = withJong(s[count - 1], LAST_JONG[jong(s[count - 1])]);
+        }
+
+        for (int i = 0; i < count; i++) {
+            out[positions[i]] = assemble(s[i]);
+        }
+    }
+
+    /**
+     * 제16항을 뺀 규칙을 기존 구현의 순서대로 적용 (다음 음절이 있는 경우)
+     */
+    private static void transformAfter16th(int[] s, int i) {
+        transform17th(s, i);
+        transform19th(s, i);
+        transformNLAssimilation(s, i);
+        transform18th(s, i);
+        transform20th(s, i);
+        transform12th(s, i, true);
+        transform13And14th(s, i);
+        transform9And10And11th(s, i, true);
+    }
+
+    private static int transitionIndex(int context, int jong, int nextCho) {
+        return (context * HangulConstants.JONGSEONG_COUNT + jong) * HangulConstants.CHOSEONG_COUNT + nextCho;
+    }
+
+    /**
+     * 제16항의 한글 자모 이름 조건 (기존 구현과 같이 음절 번호를 어절의 문자 위치로 사용)
+     */
+    private boolean isJamoName(int i, int phraseStart, int phraseEnd) {
+        if (i <= 0 || i >= phraseEnd - phraseStart) {
+            return false;
+        }
+        int pair = out[phraseStart + i - 1] << 16 | out[phraseStart + i];
+        return containsPair(특별한_한글_자모_이름, pair) || containsPair(한글_자모_이름, pair);
+    }
+
+    private static char assemble(int packed) {
+        int cho = cho(packed);
+        if (cho >= CLUSTER_CHOSEONG) {
+            throw new IllegalArgumentException("Invalid hangul Characters: " + JONG_STRINGS[cho - CLUSTER_CHOSEONG] + ", "
+                    + HangulConstants.JUNGSEONG[jung(packed)] + ", " + JONG_STRINGS[jong(packed)]);
+        }
+        return Hangul.assemble(cho, jung(packed), jong(packed));
+    }
+
+    // 제9, 10, 11항
+    private static void transform9And10And11th(int[] s, int i, boolean hasNext) {
+        int jong = jong(s[i]);
+        if (jong == 0) {
+            return;
+        }
+        if ((!hasNext || cho(s[i + 1]) != 초성_ㅇ) && 대표음[jong] >= 0) {
+            s[i] = withJong(s[i], 대표음[jong]);
+        }
+    }
+
+    // 제12항
+    private static void transform12th(int[] s, int i, boolean hasNext) {
+        int jong = jong(s[i]);
+        if (jong == 0) {
+            return;
+        }
+
+        if (in(받침_ㅎ, jong)) {
+            if (hasNext) {
+                // ㄱ, ㄷ, ㅈ, ㅅ 처리
+                int nextCho = cho(s[i + 1]);
+                if ((nextCho == 초성_ㄱ || nextCho == 초성_ㄷ || nextCho == 초성_ㅈ || nextCho == 초성_ㅅ)
+                        && 받침_ㅎ_초성[nextCho] >= 0) {
+                    nextCho = 받침_ㅎ_초성[nextCho];
+                    s[i + 1] = withCho(s[i + 1], nextCho);
+                    jong = ㅎ_제거[jong];
+                }
+                // ㄴ 처리
+                if (nextCho == 초성_ㄴ && (jong == 종성_ㄶ || jong == 종성_ㅀ)) {
+                    jong = ㅎ_제거[jong];
+                }
+                // ㅇ 처리
+                if (nextCho == 초성_ㅇ) {
+                    jong = jong == 종성_ㄶ || jong == 종성_ㅀ ? ㅎ_제거[jong] : 0;
+                } else {
+                    jong = ㅎ_제거[jong];
+                }
+            } else {
+                jong = ㅎ_제거[jong];
+            }
+            s[i] = withJong(s[i], jong);
+        }
+
+        // 첫소리 ㅎ 처리
+        if (hasNext && cho(s[i + 1]) == 초성_ㅎ && in(첫소리_ㅎ_받침, jong) && 첫소리_ㅎ_초성[jong] >= 0) {
+            s[i + 1] = withCho(s[i + 1], 첫소리_ㅎ_초성[jong]);
+            s[i] = withJong(s[i], 앞_받침[jong]);
+        }
+    }
+
+    // 제13, 14항
+    private static void transform13And14th(int[] s, int i) {
+        int jong = jong(s[i]);
+        if (jong == 0 || cho(s[i + 1]) != 초성_ㅇ) {
+            return;
+        }
+
+        if (in(겹받침, jong)) {
+            // 겹받침은 뒤의 것만 옮김 (ㅅ은 ㅆ으로)
+            s[i + 1] = withCho(s[i + 1], 겹받침_연음_초성[jong]);
+            s[i] = withJong(s[i], 앞_받침[jong]);
+        } else if (jong != 종성_ㅇ) {
+            // 홑받침 또는 쌍받침은 다음 음절 첫소리로 옮김
+            s[i + 1] = withCho(s[i + 1], 연음_초성[jong]);
+            s[i] = withJong(s[i], 0);
+        }
+    }
+
+    // 제16항
+    private void transform16th(int[] s, int i, int phraseStart, int phraseEnd) {
+        int jong = jong(s[i]);
+        if (jong == 0 || cho(s[i + 1]) != 초성_ㅇ) {
+            return;
+        }
+
+        // 기존 구현과 같이 음절 번호를 어절의 문자 위치로 사용
+        if (i > 0 && i < phraseEnd - phraseStart) {
+            int pair = out[phraseStart + i - 1] << 16 | out[phraseStart + i];
+
+            // 특별한 한글 자모 처리
+            if (containsPair(특별한_한글_자모_이름, pair) && 특별한_자모_초성[jong] >= 0) {
+                s[i] = withJong(s[i], 0);
+                s[i + 1] = withCho(s[i + 1], 특별한_자모_초성[jong]);
+            }
+
+            // 일반 한글 자모 처리
+            if (containsPair(한글_자모_이름, pair)) {
+                s[i + 1] = withCho(s[i + 1], 연음_초성[jong]);
+                if (jong != 종성_ㅇ) {
+                    s[i] = withJong(s[i], 0);
+                }
+            }
+        }
+    }
+
+    // 제17항
+    private static void transform17th(int[] s, int i) {
+        if (jung(s[i + 1]) != 중성_ㅣ) {
+            return;
+        }
+        int jong = jong(s[i]);
+
+        // ㅇ 초성 처리
+        if (cho(s[i + 1]) == 초성_ㅇ && 구개음화_초성[jong] >= 0) {
+            s[i + 1] = withCho(s[i + 1], 구개음화_초성[jong]);
+            jong = jong == 종성_ㄾ ? 종성_ㄹ : 0;
+            s[i] = withJong(s[i], jong);
+        }
+
+        // ㅎ 초성 + ㄷ 받침 처리
+        if (cho(s[i + 1]) == 초성_ㅎ && jong == 종성_ㄷ) {
+            s[i + 1] = withCho(s[i + 1], 초성_ㅊ);
+            s[i] = withJong(s[i], 0);
+        }
+    }
+
+    // 제18항
+    private static void transform18th(int[] s, int i) {
+        int jong = jong(s[i]);
+        if (jong == 0) {
+            return;
+        }
+        int nextCho = cho(s[i + 1]);
+        if (nextCho != 초성_ㄴ && nextCho != 초성_ㅁ) {
+            return;
+        }
+
+        // 세 집합은 서로 겹치지 않고 결과(ㅇ, ㄴ, ㅁ)도 다른 집합에 없으므로 하나만 적용됨
+        if (in(비음화_ㅇ_받침, jong)) {
+            s[i] = withJong(s[i], 종성_ㅇ);
+        } else if (in(비음화_ㄴ_받침, jong)) {
+            s[i] = withJong(s[i], 종성_ㄴ);
+        } else if (in(비음화_ㅁ_받침, jong)) {
+            s[i] = withJong(s[i], 종성_ㅁ);
+        }
+    }
+
+    // 제19항
+    private static void transform19th(int[] s, int i) {
+        if (in(자음동화_ㄴ_받침, jong(s[i])) && cho(s[i + 1]) == 초성_ㄹ) {
+            s[i + 1] = withCho(s[i + 1], 초성_ㄴ);
+        }
+    }
+
+    // 제20항
+    private static void transform20th(int[] s, int i) {
+        // ㄴ이 ㄹ 앞에서 ㄹ로
+        if (jong(s[i]) == 종성_ㄴ && cho(s[i + 1]) == 초성_ㄹ) {
+            s[i] = withJong(s[i], 종성_ㄹ);
+        }
+
+        // ㄴ이 ㄹ 뒤에서 ㄹ로
+        int jong = jong(s[i]);
+        if (cho(s[i + 1]) == 초성_ㄴ && (jong == 종성_ㄹ || jong == 종성_ㅀ || jong == 종성_ㄾ)) {
+            s[i + 1] = withCho(s[i + 1], 초성_ㄹ);
+        }
+    }
+
+    // 경음화 (된소리)
+    private static void transformHardConversion(int[] s, int i) {
+        int nextCho = cho(s[i + 1]);
+        // 자음군 단순화 예외
+        if (된소리_초성[nextCho] < 0 || in(자음군_단순화, jong(s[i + 1]))) {
+            return;
+        }
+
+        int jong = jong(s[i]);
+        boolean 제23항조건 = in(된소리_받침, jong);
+        boolean 제24_25항조건 = in(어간_받침, jong) && nextCho != 초성_ㅂ;
+        if (제23항조건 || 제24_25항조건) {
+            s[i + 1] = withCho(s[i + 1], 된소리_초성[nextCho]);
+        }
+    }
+
+    // ㄴㄹ 동화
+    private static void transformNLAssimilation(int[] s, int i) {
+        int jong = jong(s[i]);
+        if (jong == 0) {
+            return;
+        }
+        int next = s[i + 1];
+
+        boolean ㄴㄹ이덧나는조건 = cho(next) == 초성_ㅇ && in(ㄴㄹ이_덧나는_후속음절_모음, jung(next));
+        boolean is이 = cho(next) == 초성_ㅇ && jung(next) == 중성_ㅣ && jong(next) == 0 && !in(자음군_단순화, jong);
+        if (!ㄴㄹ이덧나는조건 || is이) {
+            return;
+        }
+
+        if (in(ㄴㄹ이_덧나는_모음, jung(s[i]))) {
+            if (in(ㄴ이_덧나는_받침, jong)) {
+                if (jong == 종성_ㄱ) {
+                    jong = 종성_ㅇ;
+                    s[i] = withJong(s[i], jong);
+                }
+                s[i + 1] = withCho(s[i + 1], 초성_ㄴ);
+            }
+            if (in(ㄹ이_덧나는_받침, jong)) {
+                s[i + 1] = withCho(s[i + 1], 초성_ㄹ);
+            }
+        } else if (in(자음군_단순화, jong)) {
+            if (자음군_단순화_결과[jong] >= 0) {
+                s[i] = withJong(s[i], 자음군_단순화_결과[jong]);
+            }
+        } else {
+            s[i + 1] = withCho(s[i + 1], 연음_초성[jong]);
+        }
+    }
+
+    private static int cho(int packed) {
+        return packed >>> 10;
+    }
+
+    private static int jung(int packed) {
+        return (packed >> 5) & 0x1F;
+    }
+
+    private static int jong(int packed) {
+        return packed & 0x1F;
+    }
+
+    private static int withCho(int packed, int cho) {
+        return cho << 10 | (packed & 0x3FF);
+    }
+
+    private static int withJong(int packed, int jong) {
+        return (packed & ~0x1F) | jong;
+    }
+
+    private static boolean in(int mask, int index) {
+        return (mask >>> index & 1) != 0;
+    }
+
+    private static boolean containsPair(int[] pairs, int pair) {
+        for (int p : pairs) {
+            if (p == pair) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int choseong(char c) {
+        return HangulConstants.getChoseongIndex(c);
+    }
+
+    private static int jongIndex(String jongString) {
+        if (jongString.isEmpty()) {
+            return 0;
+        }
+        if (jongString.length() == 1) {
+            return HangulConstants.getJongseongIndex(jongString.charAt(0));
+        }
+        return HangulConstants.getJongseongIndex(
+                HangulConstants.combineDoubleConsonant(jongString.charAt(0), jongString.charAt(1)));
+    }
+
+    private static String[] jongStrings() {
+        String[] strings = new String[HangulConstants.JONGSEONG_COUNT];
+        strings[0] = "";
+        for (int i = 1; i < strings.length; i++) {
+            char jong = HangulConstants.JONGSEONG[i];
+            char first = HangulConstants.getDoubleJamoFirst(jong);
+            strings[i] = first == '\0'
+                    ? String.valueOf(jong)
+                    : new String(new char[]{first, HangulConstants.getDoubleJamoSecond(jong)});
+        }
+        return strings;
+    }
+
+    private static int[] pairKeys(Set<String> names) {
+        int[] keys = new int[names.size()];
+        int n = 0;
+        for (String name : names) {
+            if (name.length() == 2) {
+                keys[n++] = name.charAt(0) << 16 | name.charAt(1);
+            }
+        }
+        return Arrays.copyOf(keys, n);
+    }
+
+    private static int jongMask(Set<String> jongStrings) {
+        int mask = 0;
+        for (int jong = 0; jong < JONG_STRINGS.length; jong++) {
+            if (jongStrings.contains(JONG_STRINGS[jong])) {
+                mask |= 1 << jong;
+            }
+        }
+        return mask;
+    }
+
+    private static int clusterMask() {
+        int mask = 0;
+        for (int jong = 0; jong < JONG_STRINGS.length; jong++) {
+            if (JONG_STRINGS[jong].length() == 2) {
+                mask |= 1 << jong;
+            }
+        }
+        return mask;
+    }
+
+    private static int jungMask(Set<Character> jungseongs) {
+        int mask = 0;
+        for (int jung = 0; jung < HangulConstants.JUNGSEONG_COUNT; jung++) {
+            if (jungseongs.contains(HangulConstants.JUNGSEONG[jung])) {
+                mask |= 1 << jung;
+            }
+        }
+        return mask;
+    }
+
+    private static byte[] jongToJong(Map<String, String> map) {
+        byte[] table = new byte[JONG_STRINGS.length];
+        for (int jong = 0; jong < table.length; jong++) {
+            String value = map.get(JONG_STRINGS[jong]);
+            table[jong] = (byte) (value == null ? -1 : jongIndex(value));
+        }
+        return table;
+    }
+
+    private static byte[] jongToCho(Map<String, Character> map) {
+        byte[] table = new byte[JONG_STRINGS.length];
+        for (int jong = 0; jong < table.length; jong++) {
+            Character value = map.get(JONG_STRINGS[jong]);
+            table[jong] = (byte) (value == null ? -1 : choseong(value));
+        }
+        return table;
+    }
+
+    /**
+     * 종성의 첫 글자로 찾는 표 (기존 구현의 jongseong.charAt(0))
+     */
+    private static byte[] jongFirstToCho(Map<Character, Character> map) {
+        byte[] table = new byte[JONG_STRINGS.length];
+        table[0] = -1;
+        for (int jong = 1; jong < table.length; jong++) {
+            Character value = map.get(JONG_STRINGS[jong].charAt(0));
+            table[jong] = (byte) (value == null ? -1 : choseong(value));
+        }
+        return table;
+    }
+
+    /**
+     * 초성으로 찾는 표 (겹받침이 옮겨진 초성 CLUSTER_CHOSEONG + 종성은 기존 구현의 choseong.charAt(0) 기준)
+     */
+    private static byte[] choToCho(Map<Character, Character> map) {
+        byte[] table = new byte[CLUSTER_CHOSEONG + JONG_STRINGS.length];
+        for (int cho = 0; cho < table.length; cho++) {
+            char first;
+            if (cho < HangulConstants.CHOSEONG_COUNT) {
+                first = HangulConstants.CHOSEONG[cho];
+            } else if (cho >= CLUSTER_CHOSEONG && JONG_STRINGS[cho - CLUSTER_CHOSEONG].length() == 2) {
+                first = JONG_STRINGS[cho - CLUSTER_CHOSEONG].charAt(0);
+            } else {
+                table[cho] = -1;
+                continue;
+            }
+            Character value = map.get(first);
+            table[cho] = (byte) (value == null ? -1 : choseong(value));
+        }
+        return table;
+    }
+}
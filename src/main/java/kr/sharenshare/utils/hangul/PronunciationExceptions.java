@@ -0,0 +1,445 @@
+package kr.sharenshare.utils.hangul;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 표준 발음 규칙 대신 정해진 발음을 쓰는 예외 단어 사전
+ * 단어를 더블 배열 트라이(base/check 배열)에 담으므로 항목 수와 관계없이 문자 하나에 배열 조회 몇 번으로 찾음
+ * StandardizePronunciation.standardize(hangul, hardConversion, exceptions)에서 문장 안의 단어를
+ * 왼쪽부터 가장 긴 단어로 바꾸고, 바꾼 단어 안을 뺀 나머지 음절과 단어 앞뒤 경계에 발음 규칙을 적용
+ * 불변 객체이므로 여러 스레드에서 공유 가능
+ * 예: PronunciationExceptions.load(path); standardize("깻잎을 먹었다", true, exceptions) -> "깬니플 머걷따"
+ */
+public final class PronunciationExceptions {
+
+    private static final int FREE = -1;
+    // 트라이를 만들 때 base 후보에서 빼기까지 허용하는 실패 횟수
+    private static final byte MAX_FAILURES = 8;
+
+    // 문자 -> 트라이 문자 코드 (1부터, 사전에 없는 문자는 0)
+    private final char[] codes;
+    // 노드 s의 문자 코드 c 자식은 t = base[s] + c (check[t] == s일 때만 유효), 루트는 0
+    private final int[] base;
+    private final int[] check;
+    // 단어가 끝나는 노드의 항목 번호 (아니면 -1)
+    private final int[] entries;
+    private final int[] keyLengths;
+    // 공백으로 나눈 어절 전체와 같을 때만 바꾸는 항목
+    private final boolean[] wholeWords;
+    private final StringTable replacements;
+
+    private PronunciationExceptions(char[] codes, int[] base, int[] check, int[] entries, int[] keyLengths,
+                                    boolean[] wholeWords, StringTable replacements) {
+        this.codes = codes;
+        this.base = base;
+        this.check = check;
+        this.entries = entries;
+        this.keyLengths = keyLengths;
+        this.wholeWords = wholeWords;
+        this.replacements = replacements;
+    }
+
+    /**
+     * PronunciationConstants의 사이시옷 예외와 단일어 예외로 만든 사전
+     * 단일어 예외는 어절 전체가 그 단어일 때만 바꿈 (예: "전역"은 바꾸지만 "안전역"의 전역은 바꾸지 않음)
+     */
+    public static PronunciationExceptions defaults() {
+        return Defaults.INSTANCE;
+    }
+
+    /**
+     * 단어 -> 발음 맵으로 사전 생성
+     */
+    public static PronunciationExceptions of(Map<String, String> exceptions) {
+        return of(exceptions, Collections.<String>emptySet());
+    }
+
+    /**
+     * wholeWords에 든 단어는 어절 전체와 같을 때만 바꾸는 사전 생성
+     */
+    static PronunciationExceptions of(Map<String, String> exceptions, Set<String> wholeWords) {
+        if (exceptions == null) {
+            throw new IllegalArgumentException("exceptions is null");
+        }
+        String[] keys = new String[exceptions.size()];
+        String[] values = new String[exceptions.size()];
+        boolean[] wholeWordFlags = new boolean[exceptions.size()];
+        int n = 0;
+        for (Map.Entry<String, String> entry : exceptions.entrySet()) {
+            if (entry.getKey() == null || entry.getKey().isEmpty() || entry.getValue() == null) {
+                throw new IllegalArgumentException("Invalid exception entry: " + entry);
+            }
+            keys[n] = entry.getKey();
+            values[n] = entry.getValue();
+            wholeWordFlags[n] = wholeWords.contains(entry.getKey());
+            n++;
+        }
+        return build(keys, values, wholeWordFlags);
+    }
+
+    /**
+     * UTF-8 파일에서 사전을 읽음 (형식은 load(Reader) 참고)
+     */
+    public static PronunciationExceptions load(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("path is null");
+        }
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return load(reader);
+        }
+    }
+
+    /**
+     * UTF-8 스트림에서 사전을 읽음 (스트림은 닫지 않음)
+     */
+    public static PronunciationExceptions load(InputStream in) throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("in is null");
+        }
+        return load(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 한 줄에 "단어\t발음" 하나씩 읽음 (빈 줄과 #으로 시작하는 줄은 건너뜀, 같은 단어는 뒤의 것을 사용)
+     * 형식이 맞지 않으면 IOException
+     * 예: "깻잎\t깬닙"
+     */
+    public static PronunciationExceptions load(Reader reader) throws IOException {
+        if (reader == null) {
+            throw new IllegalArgumentException("reader is null");
+        }
+        BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        Map<String, String> exceptions = new LinkedHashMap<>();
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue;
+            }
+            int tab = line.indexOf('\t');
+            if (tab <= 0 || line.indexOf('\t', tab + 1) >= 0) {
+                throw new IOException("Invalid exception entry at line " + lineNumber + ": " + line);
+            }
+            exceptions.put(line.substring(0, tab), line.substring(tab + 1));
+        }
+        return of(exceptions);
+    }
+
+    /**
+     * 단어의 발음 (사전에 없으면 null)
+     */
+    public String get(String word) {
+        if (word == null || word.isEmpty()) {
+            return null;
+        }
+        int entry = match(word, 0, word.length());
+        return entry >= 0 && keyLengths[entry] == word.length() ? replacements.get(entry) : null;
+    }
+
+    /**
+     * 단어 수
+     */
+    public int size() {
+        return keyLengths.length;
+    }
+
+    /**
+     * text[start, end)에서 start부터 시작하는 가장 긴 단어의 항목 번호 (없으면 -1)
+     * 어절 전체와 같을 때만 바꾸는 항목은 앞뒤가 text의 처음/끝이나 공백일 때만 찾음
+     */
+    int match(CharSequence text, int start, int end) {
+        boolean wordStart = start == 0 || text.charAt(start - 1) == ' ';
+        int node = 0;
+        int found = -1;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            int code = c < codes.length ? codes[c] : 0;
+            if (code == 0) {
+                break;
+            }
+            int next = base[node] + code;
+            if (next >= check.length || check[next] != node) {
+                break;
+            }
+            node = next;
+            int entry = entries[node];
+            if (entry >= 0 && (!wholeWords[entry] || wordStart && (i + 1 == end || text.charAt(i + 1) == ' '))) {
+                found = entry;
+            }
+        }
+        return found;
+    }
+
+    int keyLength(int entry) {
+        return keyLengths[entry];
+    }
+
+    int replacementLength(int entry) {
+        return replacements.offsets.get(entry + 1) - replacements.offsets.get(entry);
+    }
+
+    /**
+     * 항목의 발음을 dst[dstBegin]부터 복사
+     */
+    void copyReplacement(int entry, char[] dst, int dstBegin) {
+        for (int i = replacements.offsets.get(entry), end = replacements.offsets.get(entry + 1); i < end; i++) {
+            dst[dstBegin++] = replacements.chars.get(i);
+        }
+    }
+
+    private static PronunciationExceptions build(final String[] keys, String[] values, boolean[] wholeWords) {
+        int n = keys.length;
+        // 항목을 단어 순서로 정렬 (단어는 맵의 키이므로 중복 없음)
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return keys[a].compareTo(keys[b]);
+            }
+        });
+        String[] sortedKeys = new String[n];
+        String[] sortedValues = new String[n];
+        boolean[] sortedWholeWords = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            sortedKeys[i] = keys[order[i]];
+            sortedValues[i] = values[order[i]];
+            sortedWholeWords[i] = wholeWords[order[i]];
+        }
+
+        // 사전에 나오는 문자만 1부터 번호를 매겨 base 간격을 좁힘
+        char maxChar = 0;
+        for (String key : sortedKeys) {
+            for (int i = 0; i < key.length(); i++) {
+                maxChar = (char) Math.max(maxChar, key.charAt(i));
+            }
+        }
+        char[] codes = new char[n == 0 ? 0 : maxChar + 1];
+        char nextCode = 1;
+        for (String key : sortedKeys) {
+            for (int i = 0; i < key.length(); i++) {
+                if (codes[key.charAt(i)] == 0) {
+                    codes[key.charAt(i)] = nextCode++;
+                }
+            }
+        }
+
+        Builder builder = new Builder(sortedKeys, codes);
+        builder.build();
+        int size = builder.size;
+        int[] keyLengths = new int[n];
+        for (int i = 0; i < n; i++) {
+            keyLengths[i] = sortedKeys[i].length();
+        }
+        return new PronunciationExceptions(codes, Arrays.copyOf(builder.base, size), Arrays.copyOf(builder.check, size),
+                Arrays.copyOf(builder.entries, size), keyLengths, sortedWholeWords, StringTable.of(sortedValues));
+    }
+
+    /**
+     * 정렬한 단어로 더블 배열을 채움
+     * 노드마다 자식 문자 코드가 모두 빈 칸에 들어가는 base를 찾으며, 빈 칸만 잇는 연결 목록을 따라가므로 찬 칸은 건너뜀
+     */
+    private static final class Builder {
+        final String[] keys;
+        final char[] codes;
+        int[] base;
+        int[] check;
+        int[] entries;
+        // base를 찾을 때 시도할 빈 칸의 이전/다음 칸 (끝은 -1)
+        // 여러 번 맞지 않은 칸은 목록에서 빼서 다시 시도하지 않음 (칸은 여전히 비어 있으므로 다른 노드의 자식으로는 쓰일 수 있음)
+        int[] prevFree;
+        int[] nextFree;
+        byte[] failures;
+        int firstFree = -1;
+        int lastFree = -1;
+        int size = 1;
+
+        Builder(String[] keys, char[] codes) {
+            this.keys = keys;
+            this.codes = codes;
+            base = new int[0];
+            check = new int[0];
+            entries = new int[0];
+            prevFree = new int[0];
+            nextFree = new int[0];
+            failures = new byte[0];
+            ensureCapacity(Math.max(16, keys.length * 2));
+            occupy(0, 0);
+        }
+
+        void build() {
+            // (노드, 단어 구간 시작, 끝, 깊이)를 담는 스택
+            int[] stack = new int[64];
+            int top = 0;
+            if (keys.length > 0) {
+                stack[top++] = 0;
+                stack[top++] = 0;
+                stack[top++] = keys.length;
+                stack[top++] = 0;
+            }
+            int[] childCodes = new int[16];
+            int[] childStarts = new int[17];
+            while (top > 0) {
+                int depth = stack[--top];
+                int to = stack[--top];
+                int from = stack[--top];
+                int node = stack[--top];
+
+                // 정렬 순서상 이 노드에서 끝나는 단어는 맨 앞에 하나뿐
+                if (keys[from].length() == depth) {
+                    entries[node] = from;
+                    from++;
+                }
+                int childCount = 0;
+                for (int i = from; i < to; ) {
+                    char c = keys[i].charAt(depth);
+                    int j = i + 1;
+                    while (j < to && keys[j].charAt(depth) == c) {
+                        j++;
+                    }
+                    if (childCount == childCodes.length) {
+                        childCodes = Arrays.copyOf(childCodes, childCount * 2);
+                        childStarts = Arrays.copyOf(childStarts, childCount * 2 + 1);
+                    }
+                    childCodes[childCount] = codes[c];
+                    childStarts[childCount] = i;
+                    childCount++;
+                    i = j;
+                }
+                if (childCount == 0) {
+                    continue;
+                }
+                childStarts[childCount] = to;
+
+                int b = findBase(childCodes, childCount);
+                base[node] = b;
+                for (int k = 0; k < childCount; k++) {
+                    int child = b + childCodes[k];
+                    occupy(child, node);
+                    size = Math.max(size, child + 1);
+                    if (top + 4 > stack.length) {
+                        stack = Arrays.copyOf(stack, stack.length * 2);
+                    }
+                    stack[top++] = child;
+                    stack[top++] = childStarts[k];
+                    stack[top++] = childStarts[k + 1];
+                    stack[top++] = depth + 1;
+                }
+            }
+        }
+
+        /**
+         * 첫 자식 코드(가장 작은 코드)를 빈 칸에 놓아 보며 나머지 자식도 모두 빈 칸인 base를 찾음
+         */
+        private int findBase(int[] childCodes, int childCount) {
+            int minCode = Integer.MAX_VALUE;
+            int maxCode = 0;
+            for (int k = 0; k < childCount; k++) {
+                minCode = Math.min(minCode, childCodes[k]);
+                maxCode = Math.max(maxCode, childCodes[k]);
+            }
+            int position = firstFree;
+            while (true) {
+                if (position == -1) {
+                    // 빈 칸이 모자라면 늘리고 새로 생긴 칸부터 다시 찾음
+                    int oldLength = check.length;
+                    ensureCapacity(oldLength + maxCode + 1);
+                    position = oldLength;
+                }
+                int b = position - minCode;
+                if (b >= 1) {
+                    ensureCapacity(b + maxCode + 1);
+                    boolean fits = true;
+                    for (int k = 0; k < childCount && fits; k++) {
+                        fits = check[b + childCodes[k]] == FREE;
+                    }
+                    if (fits) {
+                        return b;
+                    }
+                }
+                int next = nextFree[position];
+                if (++failures[position] >= MAX_FAILURES) {
+                    unlinkFree(position);
+                }
+                position = next;
+            }
+        }
+
+        private void occupy(int position, int parent) {
+            check[position] = parent;
+            if (failures[position] < MAX_FAILURES) {
+                unlinkFree(position);
+            }
+        }
+
+        private void unlinkFree(int position) {
+            failures[position] = MAX_FAILURES;
+            int prev = prevFree[position];
+            int next = nextFree[position];
+            if (prev == -1) {
+                firstFree = next;
+            } else {
+                nextFree[prev] = next;
+            }
+            if (next == -1) {
+                lastFree = prev;
+            } else {
+                prevFree[next] = prev;
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= check.length) {
+                return;
+            }
+            int oldLength = check.length;
+            int newLength = Math.max(capacity, oldLength + (oldLength >> 1));
+            base = Arrays.copyOf(base, newLength);
+            check = Arrays.copyOf(check, newLength);
+            entries = Arrays.copyOf(entries, newLength);
+            prevFree = Arrays.copyOf(prevFree, newLength);
+            nextFree = Arrays.copyOf(nextFree, newLength);
+            failures = Arrays.copyOf(failures, newLength);
+            Arrays.fill(check, oldLength, newLength, FREE);
+            Arrays.fill(entries, oldLength, newLength, -1);
+            // 새 칸을 빈 칸 목록 끝에 이어 붙임
+            for (int i = oldLength; i < newLength; i++) {
+                prevFree[i] = lastFree;
+                nextFree[i] = -1;
+                if (lastFree == -1) {
+                    firstFree = i;
+                } else {
+                    nextFree[lastFree] = i;
+                }
+                lastFree = i;
+            }
+        }
+    }
+
+    private static final class Defaults {
+        static final PronunciationExceptions INSTANCE;
+
+        static {
+            Map<String, String> exceptions = new LinkedHashMap<>(PronunciationConstants.사이시옷_예외사항_목록);
+            exceptions.putAll(PronunciationConstants.단일어_예외사항_단어모음);
+            // 단일어 예외는 기존 standardize와 같이 단어 전체일 때만 적용
+            INSTANCE = of(exceptions, PronunciationConstants.단일어_예외사항_단어모음.keySet());
+        }
+    }
+}
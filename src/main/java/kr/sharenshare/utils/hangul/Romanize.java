@@ -32,14 +32,10 @@ public class Romanize {
         char syllable = chars[index];
 
         // 완성형 한글인 경우
-        if (Hangul.isHangul(syllable)) {
-            HangulChar disassemble = Hangul.disassembleCompleteCharacter(syllable);
-            if (disassemble == null) {
-                return String.valueOf(syllable);
-            }
-
-            char choseong = disassemble.getChoseong();
-            char jungseong = disassemble.getJungseong();
+        int packed = Hangul.decomposePacked(syllable);
+        if (packed >= 0) {
+            char choseong = HangulConstants.CHOSEONG[Hangul.packedChoseongIndex(packed)];
+            char jungseong = HangulConstants.JUNGSEONG[Hangul.packedJungseongIndex(packed)];
             
             // 종성 처리 - 겹받침을 문자열로 변환
             String jongseong = Hangul.getJongseongAsString(syllable);
@@ -51,10 +47,10 @@ public class Romanize {
             }
 
             // ㄹ 특수 처리: 'ㄹ'은 모음 앞에서는 'r'로, ㄹㄹ은 'll'로
-            if (choseong == 'ㄹ' && index > 0 && Hangul.isHangul(chars[index - 1])) {
-                HangulChar prevDisassemble = Hangul.disassembleCompleteCharacter(chars[index - 1]);
-                if (prevDisassemble != null && prevDisassemble.getJongseong() != null && 
-                    prevDisassemble.getJongseong() == 'ㄹ') {
+            if (choseong == 'ㄹ' && index > 0) {
+                int prevPacked = Hangul.decomposePacked(chars[index - 1]);
+                if (prevPacked >= 0 &&
+                    HangulConstants.JONGSEONG[Hangul.packedJongseongIndex(prevPacked)] == 'ㄹ') {
                     choseongRoman = "l";
                 }
             }
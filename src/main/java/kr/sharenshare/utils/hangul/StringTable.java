@@ -0,0 +1,54 @@
+package kr.sharenshare.utils.hangul;
+
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * 문자열 목록을 문자 버퍼 하나와 시작 위치 목록으로 담는 표
+ * 힙 배열과 HangulIndexFile로 매핑한 파일을 같은 코드로 읽으며, 문자열은 꺼낼 때 만듦
+ */
+final class StringTable {
+
+    // 모든 문자열을 이어 붙인 문자와 문자열별 시작 위치 (size + 1개)
+    final CharBuffer chars;
+    final IntBuffer offsets;
+
+    StringTable(CharBuffer chars, IntBuffer offsets) {
+        this.chars = chars;
+        this.offsets = offsets;
+    }
+
+    static StringTable of(String[] strings) {
+        long total = 0;
+        for (String s : strings) {
+            total += s.length();
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Total length exceeds " + Integer.MAX_VALUE);
+        }
+        char[] chars = new char[(int) total];
+        int[] offsets = new int[strings.length + 1];
+        int pos = 0;
+        for (int i = 0; i < strings.length; i++) {
+            offsets[i] = pos;
+            strings[i].getChars(0, strings[i].length(), chars, pos);
+            pos += strings[i].length();
+        }
+        offsets[strings.length] = pos;
+        return new StringTable(CharBuffer.wrap(chars), IntBuffer.wrap(offsets));
+    }
+
+    String get(int index) {
+        int from = offsets.get(index);
+        int to = offsets.get(index + 1);
+        char[] value = new char[to - from];
+        for (int i = 0; i < value.length; i++) {
+            value[i] = chars.get(from + i);
+        }
+        return new String(value);
+    }
+
+    int size() {
+        return offsets.limit() - 1;
+    }
+}
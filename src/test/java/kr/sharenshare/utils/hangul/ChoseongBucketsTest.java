@@ -0,0 +1,102 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ChoseongBuckets 테스트")
+class ChoseongBucketsTest {
+
+    @Test
+    @DisplayName("첫 글자 초성으로 묶음")
+    void groupsByChoseong() {
+        ChoseongBuckets<String> buckets = ChoseongBuckets.of(Arrays.asList("나무", "가지", "하늘", "apple", "다리"));
+        assertEquals(Arrays.asList("가지"), buckets.get(0));
+        assertEquals(Arrays.asList("나무"), buckets.get(1));
+        assertEquals(Arrays.asList("다리"), buckets.get(2));
+        assertEquals(Arrays.asList("하늘"), buckets.get(13));
+        assertEquals(Arrays.asList("apple"), buckets.get(ChoseongBuckets.OTHER));
+        assertEquals(5, buckets.size());
+    }
+
+    @Test
+    @DisplayName("쌍자음은 기본 자음 묶음에 입력 순서대로 들어감")
+    void foldsDoubleConsonants() {
+        ChoseongBuckets<String> buckets = ChoseongBuckets.of(
+                new String[]{"까치", "가지", "따님", "빵", "쌀", "짜장", "ㄲ", "사과"});
+        assertEquals(Arrays.asList("까치", "가지", "ㄲ"), buckets.get(0));
+        assertEquals(Arrays.asList("따님"), buckets.get(2));
+        assertEquals(Arrays.asList("빵"), buckets.get(5));
+        assertEquals(Arrays.asList("쌀", "사과"), buckets.get(6));
+        assertEquals(Arrays.asList("짜장"), buckets.get(8));
+    }
+
+    @Test
+    @DisplayName("겹자음 자모는 ChoseongFingerprint처럼 앞 자음 묶음에 들어감")
+    void foldsClusterConsonants() {
+        assertEquals(0, ChoseongBuckets.bucketOf("ㄳ"));
+        assertEquals(1, ChoseongBuckets.bucketOf("ㄶ"));
+        assertEquals(3, ChoseongBuckets.bucketOf("ㄺ이"));
+        assertEquals(5, ChoseongBuckets.bucketOf("ㅄ"));
+        for (char c : "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄ".toCharArray()) {
+            int code = ChoseongFingerprint.code(c) - ChoseongFingerprint.code('ㄱ');
+            assertEquals(ChoseongBuckets.bucketOf(String.valueOf(HangulConstants.CHOSEONG[code])),
+                    ChoseongBuckets.bucketOf(String.valueOf(c)));
+        }
+    }
+
+    @Test
+    @DisplayName("모음, 빈 문자열, null은 기타")
+    void otherBucket() {
+        assertEquals(ChoseongBuckets.OTHER, ChoseongBuckets.bucketOf("ㅏ"));
+        assertEquals(ChoseongBuckets.OTHER, ChoseongBuckets.bucketOf("ㅘ"));
+        assertEquals(ChoseongBuckets.OTHER, ChoseongBuckets.bucketOf(""));
+        assertEquals(ChoseongBuckets.OTHER, ChoseongBuckets.bucketOf(null));
+        assertEquals(ChoseongBuckets.OTHER, ChoseongBuckets.bucketOf("123"));
+    }
+
+    @Test
+    @DisplayName("묶음 자음")
+    void labels() {
+        assertEquals('ㄱ', ChoseongBuckets.label(0));
+        assertEquals('ㅎ', ChoseongBuckets.label(13));
+        assertEquals('\0', ChoseongBuckets.label(ChoseongBuckets.OTHER));
+        assertThrows(IllegalArgumentException.class, () -> ChoseongBuckets.label(15));
+    }
+
+    @Test
+    @DisplayName("key 함수로 임의 객체를 묶음")
+    void keyFunction() {
+        List<StringBuilder> items = new LinkedList<StringBuilder>();
+        items.add(new StringBuilder("라면"));
+        items.add(new StringBuilder("마늘"));
+        ChoseongBuckets<StringBuilder> buckets = ChoseongBuckets.of(items, StringBuilder::toString);
+        assertEquals("라면", buckets.get(3).get(0).toString());
+        assertEquals(1, buckets.size(4));
+        assertThrows(UnsupportedOperationException.class, () -> buckets.get(3).add(new StringBuilder()));
+    }
+
+    @Test
+    @DisplayName("병렬 결과는 순차 결과와 같음")
+    void parallelMatchesSequential() {
+        List<String> words = new ArrayList<String>();
+        for (int i = 0; i < 50000; i++) {
+            words.add(String.valueOf((char) (0xAC00 + (i * 7919) % 11172)) + i);
+            if (i % 17 == 0) {
+                words.add("x" + i);
+            }
+        }
+        ChoseongBuckets<String> sequential = ChoseongBuckets.of(words);
+        ChoseongBuckets<String> parallel = ChoseongBuckets.ofParallel(words, s -> s);
+        for (int b = 0; b < ChoseongBuckets.BUCKET_COUNT; b++) {
+            assertEquals(sequential.get(b), parallel.get(b));
+        }
+        assertEquals(words.size(), parallel.size());
+    }
+}
@@ -0,0 +1,97 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChoseongFingerprintTest {
+
+    @Test
+    @DisplayName("글자마다 초성 코드를 앞에서부터 담는다")
+    void of() {
+        long fingerprint = ChoseongFingerprint.of("홍길동");
+        assertEquals(3, ChoseongFingerprint.length(fingerprint));
+        assertEquals(20, ChoseongFingerprint.codeAt(fingerprint, 0));
+        assertEquals(2, ChoseongFingerprint.codeAt(fingerprint, 1));
+        assertEquals(5, ChoseongFingerprint.codeAt(fingerprint, 2));
+        assertEquals(ChoseongFingerprint.END, ChoseongFingerprint.codeAt(fingerprint, 3));
+        assertEquals(fingerprint, ChoseongFingerprint.of("ㅎㄱㄷ"));
+        assertEquals(0L, ChoseongFingerprint.of(""));
+        assertEquals(ChoseongFingerprint.NON_HANGUL, ChoseongFingerprint.code('a'));
+        assertEquals(ChoseongFingerprint.VOWEL, ChoseongFingerprint.code('ㅏ'));
+        assertEquals(ChoseongFingerprint.code('ㄱ'), ChoseongFingerprint.code('ㄳ'));
+    }
+
+    @Test
+    @DisplayName("초성 접두사를 마스크로 확인한다")
+    void hasPrefix() {
+        long fingerprint = ChoseongFingerprint.of("홍길동");
+        assertTrue(ChoseongFingerprint.hasPrefix(fingerprint, ChoseongFingerprint.of("ㅎㄱ")));
+        assertTrue(ChoseongFingerprint.hasPrefix(fingerprint, ChoseongFingerprint.of("하구")));
+        assertTrue(ChoseongFingerprint.hasPrefix(fingerprint, ChoseongFingerprint.of("")));
+        assertFalse(ChoseongFingerprint.hasPrefix(fingerprint, ChoseongFingerprint.of("ㄱ")));
+        assertFalse(ChoseongFingerprint.hasPrefix(fingerprint, ChoseongFingerprint.of("ㅎㄱㄷㅇ")));
+    }
+
+    @Test
+    @DisplayName("12글자까지만 담는다")
+    void maxLength() {
+        long fingerprint = ChoseongFingerprint.of("가나다라마바사아자차카타파하");
+        assertEquals(12, ChoseongFingerprint.length(fingerprint));
+        assertEquals(fingerprint, ChoseongFingerprint.of("가나다라마바사아자차카타"));
+        assertEquals(-1L >>> 4, ChoseongFingerprint.mask(12));
+        assertEquals(0L, ChoseongFingerprint.mask(0));
+        assertThrows(IllegalArgumentException.class, () -> ChoseongFingerprint.mask(13));
+        assertThrows(IndexOutOfBoundsException.class, () -> ChoseongFingerprint.codeAt(fingerprint, 12));
+    }
+
+    @Test
+    @DisplayName("long 비교가 초성 코드 순서와 같다")
+    void ordering() {
+        Random random = new Random(16);
+        String alphabet = "가나ㄱㄲ하ㅏa";
+        for (int t = 0; t < 2000; t++) {
+            String a = RandomStrings.of(random, alphabet, random.nextInt(5));
+            String b = RandomStrings.of(random, alphabet, random.nextInt(5));
+            assertEquals(Integer.signum(compareCodes(a, b)),
+                    Long.signum(Long.compare(ChoseongFingerprint.of(a), ChoseongFingerprint.of(b))), a + " / " + b);
+            boolean prefix = true;
+            for (int i = 0; i < b.length(); i++) {
+                prefix &= i < a.length() && ChoseongFingerprint.code(a.charAt(i)) == ChoseongFingerprint.code(b.charAt(i));
+            }
+            assertEquals(prefix, ChoseongFingerprint.hasPrefix(ChoseongFingerprint.of(a), ChoseongFingerprint.of(b)), a + " / " + b);
+        }
+    }
+
+    @Test
+    @DisplayName("코드가 다른 글자는 HangulCollationKey와 같은 순서")
+    void sameOrderAsCollationKey() {
+        String alphabet = " 1Aa~가각까나하ㄱㄲㄳㄴㄵㅀㅎㅏㅘㅣ\u00e9\u4e00";
+        for (int i = 0; i < alphabet.length(); i++) {
+            for (int j = 0; j < alphabet.length(); j++) {
+                String a = alphabet.substring(i, i + 1);
+                String b = alphabet.substring(j, j + 1);
+                int byCode = Integer.compare(ChoseongFingerprint.code(a.charAt(0)), ChoseongFingerprint.code(b.charAt(0)));
+                if (byCode != 0) {
+                    assertEquals(Integer.signum(byCode), Integer.signum(HangulCollationKey.compare(a, b)), a + " / " + b);
+                }
+            }
+        }
+        // 한글이 아닌 문자로 시작하는 문자열이 먼저
+        assertTrue(ChoseongFingerprint.of("apple") < ChoseongFingerprint.of("가지"));
+        assertTrue(HangulCollationKey.compare("apple", "가지") < 0);
+    }
+
+    private static int compareCodes(String a, String b) {
+        for (int i = 0; i < Math.min(a.length(), b.length()); i++) {
+            int c = Integer.compare(ChoseongFingerprint.code(a.charAt(i)), ChoseongFingerprint.code(b.charAt(i)));
+            if (c != 0) {
+                return c;
+            }
+        }
+        return Integer.compare(a.length(), b.length());
+    }
+}
@@ -0,0 +1,83 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChoseongIndexTest {
+
+    private static final List<String> DOCUMENTS = Arrays.asList(
+            "사과", "바나나", "수박", "파인애플", "사과주스", "바나나 우유", "", "딸기 100g");
+
+    @Test
+    @DisplayName("초성을 포함하는 문서 번호를 반환한다")
+    void search() {
+        ChoseongIndex index = ChoseongIndex.build(DOCUMENTS);
+        assertEquals(8, index.size());
+        assertArrayEquals(new int[]{1, 5}, index.search("ㅂㄴ"));
+        assertArrayEquals(new int[]{1, 5}, index.search("ㅂㄴㄴ"));
+        assertArrayEquals(new int[]{5}, index.search("ㄴㄴ ㅇㅇ"));
+        assertArrayEquals(new int[]{0, 4}, index.search("ㅅㄱ"));
+        assertArrayEquals(new int[]{7}, index.search("ㄸㄱ 100"));
+        assertArrayEquals(new int[0], index.search("ㄱㅅ"));
+        assertArrayEquals(new int[0], index.search("사과"));
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 1-gram 목록으로, 빈 검색어는 모든 문서로 찾는다")
+    void shortQuery() {
+        ChoseongIndex index = ChoseongIndex.build(DOCUMENTS);
+        assertArrayEquals(new int[]{0, 2, 4}, index.search("ㅅ"));
+        assertArrayEquals(new int[0], index.search("ㅋ"));
+        assertArrayEquals(new int[]{7}, index.search("1"));
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6, 7}, index.search(""));
+    }
+
+    @Test
+    @DisplayName("limit만큼만 반환한다")
+    void limit() {
+        ChoseongIndex index = ChoseongIndex.build(DOCUMENTS);
+        assertArrayEquals(new int[]{1}, index.search("ㅂㄴ", 1));
+        assertArrayEquals(new int[]{0, 2}, index.search("ㅅ", 2));
+        assertArrayEquals(new int[0], index.search("ㅅ", 0));
+    }
+
+    @Test
+    @DisplayName("Hangul.choseongIncludes로 모든 문서를 확인한 결과와 같다")
+    void sameAsChoseongIncludes() {
+        Random random = new Random(9);
+        String alphabet = "가나다라각낙 ";
+        List<String> documents = new ArrayList<String>();
+        for (int i = 0; i < 300; i++) {
+            documents.add(RandomStrings.of(random, alphabet, random.nextInt(10)));
+        }
+        ChoseongIndex index = ChoseongIndex.build(documents);
+        for (int t = 0; t < 500; t++) {
+            String query = Hangul.getChoseong(RandomStrings.of(random, alphabet, 1 + random.nextInt(5)));
+            List<Integer> expected = new ArrayList<Integer>();
+            for (int d = 0; d < documents.size(); d++) {
+                if (Hangul.choseongIncludes(documents.get(d), query)) {
+                    expected.add(d);
+                }
+            }
+            int[] actual = index.search(query);
+            assertEquals(expected.size(), actual.length, query);
+            for (int i = 0; i < actual.length; i++) {
+                assertEquals(expected.get(i).intValue(), actual[i], query);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("null 문서는 색인할 수 없다")
+    void nullDocument() {
+        assertThrows(IllegalArgumentException.class, () -> ChoseongIndex.build(Arrays.asList("가", null)));
+        assertThrows(IllegalArgumentException.class, () -> ChoseongIndex.build(null));
+    }
+}
@@ -0,0 +1,71 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChoseongPatternTest {
+
+    @Test
+    @DisplayName("초성이 일치하는 첫 위치를 찾는다")
+    void find() {
+        ChoseongPattern pattern = ChoseongPattern.compile("ㅅㄱ");
+        assertEquals(4, pattern.find("맛있는 사과"));
+        assertEquals(0, pattern.find("사과"));
+        assertEquals(-1, pattern.find("사"));
+        assertEquals(-1, pattern.find("과사"));
+        assertTrue(pattern.includedIn("새 수건"));
+        assertFalse(pattern.includedIn(""));
+    }
+
+    @Test
+    @DisplayName("접두사가 반복되는 패턴도 찾는다")
+    void failureTable() {
+        ChoseongPattern pattern = ChoseongPattern.compile("ㄱㄱㄴ");
+        assertEquals(1, pattern.find("가게고나"));
+        assertEquals(-1, pattern.find("가게고"));
+        assertEquals(2, ChoseongPattern.compile("ㄱㄴㄱㄷ").find("가나가나고다"));
+    }
+
+    @Test
+    @DisplayName("범위를 지정해 찾는다")
+    void findRange() {
+        ChoseongPattern pattern = ChoseongPattern.compile("ㅅㄱ");
+        assertEquals(-1, pattern.find("사과 사과", 1, 4));
+        assertEquals(3, pattern.find("사과 사과", 1, 5));
+        assertEquals(1, ChoseongPattern.compile("").find("사과", 1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> pattern.find("사과", 1, 3));
+    }
+
+    @Test
+    @DisplayName("한글이 아닌 문자는 그대로 비교한다")
+    void nonHangul() {
+        assertEquals(2, ChoseongPattern.compile("ㄱ1").find("a 가1"));
+        assertEquals(-1, ChoseongPattern.compile("가").find("가"));
+        assertEquals(0, ChoseongPattern.compile("ㄱ").find("ㄱ"));
+    }
+
+    @Test
+    @DisplayName("getChoseong 후 indexOf와 같은 결과를 낸다")
+    void sameAsGetChoseong() {
+        Random random = new Random(8);
+        String alphabet = "가나다각낙ㄱㄴ ";
+        for (int t = 0; t < 2000; t++) {
+            String text = RandomStrings.of(random, alphabet, random.nextInt(12));
+            String query = Hangul.getChoseong(RandomStrings.of(random, alphabet, random.nextInt(4)));
+            int expected = Hangul.getChoseong(text).indexOf(query);
+            assertEquals(expected, ChoseongPattern.compile(query).find(text), text + " / " + query);
+            assertEquals(expected, ChoseongPattern.indexOf(text, query), text + " / " + query);
+            assertEquals(expected >= 0, Hangul.choseongIncludes(text, query));
+        }
+    }
+
+    @Test
+    @DisplayName("null 패턴은 컴파일할 수 없다")
+    void compileNull() {
+        assertThrows(IllegalArgumentException.class, () -> ChoseongPattern.compile(null));
+    }
+}
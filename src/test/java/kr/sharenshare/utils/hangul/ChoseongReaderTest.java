@@ -0,0 +1,36 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChoseongReaderTest {
+
+    @Test
+    @DisplayName("Hangul.getChoseong과 같은 결과를 읽는다")
+    void read() throws IOException {
+        String text = "사과를 먹었다. abc ㄱㅏ 123";
+        Reader reader = new ChoseongReader(new StringReader(text));
+        StringBuilder sb = new StringBuilder();
+        char[] buf = new char[4];
+        int n;
+        while ((n = reader.read(buf, 1, 3)) != -1) {
+            sb.append(buf, 1, n);
+        }
+        assertEquals(Hangul.getChoseong(text), sb.toString());
+    }
+
+    @Test
+    @DisplayName("한 글자씩 읽을 수 있다")
+    void readSingle() throws IOException {
+        Reader reader = new ChoseongReader(new StringReader("한a"));
+        assertEquals('ㅎ', reader.read());
+        assertEquals('a', reader.read());
+        assertEquals(-1, reader.read());
+    }
+}
@@ -0,0 +1,69 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulAssemblerTest {
+
+    private static String run(String jamo) {
+        HangulAssembler assembler = new HangulAssembler();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < jamo.length(); i++) {
+            int count = assembler.feed(jamo.charAt(i));
+            for (int k = 0; k < count; k++) {
+                sb.append(assembler.emitted(k));
+            }
+        }
+        int count = assembler.flush();
+        for (int k = 0; k < count; k++) {
+            sb.append(assembler.emitted(k));
+        }
+        return sb.toString();
+    }
+
+    @Test
+    @DisplayName("자모를 차례로 입력해 음절을 조합한다")
+    void feed() {
+        assertEquals("안녕하세요", run("ㅇㅏㄴㄴㅕㅇㅎㅏㅅㅔㅇㅛ"));
+        assertEquals("닭고기", run("ㄷㅏㄺㄱㅗㄱㅣ"));
+        assertEquals("값", run("ㄱㅏㅂㅅ"));
+        assertEquals("과자", run("ㄱㅗㅏㅈㅏ"));
+    }
+
+    @Test
+    @DisplayName("종성 뒤에 모음이 오면 마지막 자음을 다음 글자 초성으로 넘긴다")
+    void split() {
+        assertEquals("가나", run("ㄱㅏㄴㅏ"));
+        assertEquals("갑사", run("ㄱㅏㅂㅅㅏ"));
+        assertEquals("가ㄳㅏ", run("ㄱㅏㄳㅏ"));
+    }
+
+    @Test
+    @DisplayName("조합할 수 없는 문자는 그대로 내보낸다")
+    void passThrough() {
+        assertEquals("ㅏㄸ a가", run("ㅏㄸ a가"));
+        assertEquals("ㄲ", run("ㄲ"));
+    }
+
+    @Test
+    @DisplayName("조합 중인 글자를 미리 볼 수 있다")
+    void pendingChar() {
+        HangulAssembler assembler = new HangulAssembler();
+        assertFalse(assembler.hasPending());
+        assertEquals(0, assembler.feed('ㄷ'));
+        assertEquals('ㄷ', assembler.pendingChar());
+        assembler.feed('ㅏ');
+        assertEquals('다', assembler.pendingChar());
+        assembler.feed('ㄹ');
+        assembler.feed('ㄱ');
+        assertEquals('닭', assembler.pendingChar());
+        assertEquals(1, assembler.feed('ㅣ'));
+        assertEquals('달', assembler.emitted(0));
+        assertEquals('기', assembler.pendingChar());
+        assembler.reset();
+        assertFalse(assembler.hasPending());
+        assertThrows(IllegalStateException.class, assembler::pendingChar);
+    }
+}
@@ -0,0 +1,44 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulAssemblingWriterTest {
+
+    @Test
+    @DisplayName("나누어 써도 Hangul.assembleString과 같은 결과를 낸다")
+    void write() throws IOException {
+        String jamo = Hangul.disassemble("닭고기를 값싸게 샀다 abc 뷁");
+        for (int size = 1; size <= 5; size++) {
+            StringWriter sw = new StringWriter();
+            Writer writer = new HangulAssemblingWriter(sw, 2);
+            for (int i = 0; i < jamo.length(); i += size) {
+                writer.write(jamo, i, Math.min(size, jamo.length() - i));
+            }
+            writer.close();
+            assertEquals(Hangul.assembleString(jamo), sw.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("flush는 조합 중인 글자를 남겨 둔다")
+    void flushKeepsPending() throws IOException {
+        StringWriter sw = new StringWriter();
+        HangulAssemblingWriter writer = new HangulAssemblingWriter(sw);
+        writer.write("ㄱㅏㄴㅏㄹ");
+        writer.flush();
+        assertEquals("가", sw.toString());
+        writer.write('ㄱ');
+        writer.write("ㅣ".toCharArray());
+        writer.finish();
+        assertEquals("가날기", sw.toString());
+        writer.close();
+        assertThrows(IOException.class, () -> writer.write('ㄱ'));
+    }
+}
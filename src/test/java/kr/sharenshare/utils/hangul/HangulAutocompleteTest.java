@@ -0,0 +1,119 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulAutocompleteTest {
+
+    private static HangulAutocomplete sample() {
+        return HangulAutocomplete.builder()
+                .add("닭갈비", 50)
+                .add("닭강정", 80)
+                .add("달걀", 30)
+                .add("다람쥐", 10)
+                .add("닭", 5)
+                .add("apple", 1)
+                .build();
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자로 끝나는 검색어도 일치한다")
+    void partialSyllable() {
+        HangulAutocomplete autocomplete = sample();
+        // "달걀"도 ㄷㅏㄹㄱ으로 시작
+        assertEquals(Arrays.asList("닭강정", "닭갈비", "달걀", "닭"), autocomplete.complete("닭", 10));
+        assertEquals(Arrays.asList("닭강정", "닭갈비", "달걀", "닭"), autocomplete.complete("달ㄱ", 10));
+        assertEquals(Arrays.asList("닭강정", "닭갈비"), autocomplete.complete("닭가", 10));
+        // "달"은 "다람쥐"의 "다라"를 입력하는 도중일 수도 있음
+        assertEquals(Arrays.asList("닭강정", "닭갈비", "달걀", "다람쥐", "닭"), autocomplete.complete("달", 10));
+        assertEquals(Arrays.asList("apple"), autocomplete.complete("ap", 10));
+    }
+
+    @Test
+    @DisplayName("가중치가 큰 순서로 k개만 반환한다")
+    void topK() {
+        HangulAutocomplete autocomplete = sample();
+        assertEquals(Arrays.asList("닭강정", "닭갈비"), autocomplete.complete("ㄷ", 2));
+        assertEquals(6, autocomplete.complete("", 10).size());
+        assertEquals(Collections.emptyList(), autocomplete.complete("ㄷ", 0));
+        assertEquals(Collections.emptyList(), autocomplete.complete("김", 10));
+    }
+
+    @Test
+    @DisplayName("모든 단어를 정렬한 결과와 같다")
+    void sameAsSort() {
+        Random random = new Random(10);
+        String alphabet = "가나닭달ㄱa";
+        HangulAutocomplete.Builder builder = HangulAutocomplete.builder();
+        final List<String> words = new ArrayList<String>();
+        final List<Long> weights = new ArrayList<Long>();
+        for (int i = 0; i < 300; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int j = random.nextInt(5); j >= 0; j--) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            long weight = random.nextInt(20);
+            words.add(sb.toString());
+            weights.add(weight);
+            builder.add(sb.toString(), weight);
+        }
+        HangulAutocomplete autocomplete = builder.build();
+        for (int t = 0; t < 200; t++) {
+            String prefix = words.get(random.nextInt(words.size()));
+            prefix = prefix.substring(0, random.nextInt(prefix.length() + 1));
+            final String jamoPrefix = Hangul.disassemble(prefix);
+            List<Integer> expected = new ArrayList<Integer>();
+            for (int i = 0; i < words.size(); i++) {
+                if (Hangul.disassemble(words.get(i)).startsWith(jamoPrefix)) {
+                    expected.add(i);
+                }
+            }
+            Collections.sort(expected, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer a, Integer b) {
+                    int c = Long.compare(weights.get(b), weights.get(a));
+                    if (c == 0) {
+                        c = Hangul.disassemble(words.get(a)).compareTo(Hangul.disassemble(words.get(b)));
+                    }
+                    return c != 0 ? c : Integer.compare(a, b);
+                }
+            });
+            List<String> expectedWords = new ArrayList<String>();
+            for (int i = 0; i < Math.min(7, expected.size()); i++) {
+                expectedWords.add(words.get(expected.get(i)));
+            }
+            assertEquals(expectedWords, autocomplete.complete(prefix, 7), prefix);
+        }
+    }
+
+    @Test
+    @DisplayName("아주 긴 단어도 호출 스택 넘침 없이 색인한다")
+    void longWord() {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < 50000; i++) {
+            word.append('가');
+        }
+        HangulAutocomplete autocomplete = HangulAutocomplete.builder()
+                .add(word.toString(), 1)
+                .add(word.substring(0, 30000) + "나", 2)
+                .build();
+        assertEquals(Arrays.asList(word.substring(0, 30000) + "나", word.toString()), autocomplete.complete("가가", 10));
+        assertEquals(Arrays.asList(word.toString()), autocomplete.complete(word.substring(0, 40000), 10));
+    }
+
+    @Test
+    @DisplayName("null은 등록할 수 없다")
+    void nullWord() {
+        assertThrows(IllegalArgumentException.class, () -> HangulAutocomplete.builder().add(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> sample().complete(null, 1));
+    }
+}
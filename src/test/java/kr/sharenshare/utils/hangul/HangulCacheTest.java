@@ -0,0 +1,132 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HangulCache 테스트")
+class HangulCacheTest {
+
+    @Test
+    @DisplayName("캐시 없이 변환한 결과와 같고 두 번째 호출은 캐시에서 찾음")
+    void sameResultsAndCounters() {
+        HangulCache cache = HangulCache.create(100);
+        assertEquals("궁물", cache.standardize("국물"));
+        assertEquals("궁물", cache.standardize("국물"));
+        assertEquals(StandardizePronunciation.standardize("국밥", false), cache.standardize("국밥", false));
+        assertEquals(Romanize.romanize("국물"), cache.romanize("국물"));
+
+        assertEquals(1, cache.hitCount());
+        assertEquals(3, cache.missCount());
+        assertEquals(3, cache.size());
+        assertEquals(0, cache.evictionCount());
+    }
+
+    @Test
+    @DisplayName("경음화 여부와 로마자 변환은 서로 다른 키")
+    void flagsArePartOfKey() {
+        HangulCache cache = HangulCache.create(100);
+        assertEquals("국빱", cache.standardize("국밥", true));
+        assertEquals("국밥", cache.standardize("국밥", false));
+        assertEquals(0, cache.hitCount());
+    }
+
+    @Test
+    @DisplayName("빈 입력은 캐시에 담지 않음")
+    void emptyInput() {
+        HangulCache cache = HangulCache.create(10);
+        assertEquals("", cache.standardize(null));
+        assertEquals("", cache.romanize(""));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 밀어내고, 다시 쓰인 항목은 한 번만 쓰인 항목보다 오래 남음")
+    void evictsOneHitEntriesFirst() {
+        HangulCache cache = HangulCache.create(10, 1);
+        cache.standardize("국물");
+        cache.standardize("국물");
+        for (int i = 0; i < 100; i++) {
+            cache.standardize("단어" + i);
+        }
+
+        assertEquals(10, cache.size());
+        assertEquals(91, cache.evictionCount());
+        long hits = cache.hitCount();
+        cache.standardize("국물");
+        assertEquals(hits + 1, cache.hitCount());
+    }
+
+    @Test
+    @DisplayName("clear는 항목만 지움")
+    void clear() {
+        HangulCache cache = HangulCache.create(10);
+        cache.standardize("국물");
+        cache.clear();
+        assertEquals(0, cache.size());
+        cache.standardize("국물");
+        assertEquals(2, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 사용해도 결과와 크기 제한이 유지됨")
+    void concurrentAccess() throws Exception {
+        HangulCache cache = HangulCache.create(64, 8);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        String word = "신라" + (i % 100);
+                        assertEquals(StandardizePronunciation.standardize(word), cache.standardize(word));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(cache.size() <= 64);
+        assertEquals(8000, cache.hitCount() + cache.missCount());
+    }
+
+    @Test
+    @DisplayName("기본 구획 수는 프로세서 수와 관계없이 maximumSize를 넘지 않음")
+    void defaultSegmentCount() {
+        for (int processors : new int[]{1, 4, 25, 128}) {
+            for (int maximumSize : new int[]{1, 10, 100, 1000, 1_000_000}) {
+                int segments = HangulCache.defaultSegmentCount(maximumSize, processors);
+                assertEquals(1, Integer.bitCount(segments));
+                assertTrue(segments <= maximumSize);
+                assertTrue(segments == 1 || maximumSize / segments >= 16);
+            }
+        }
+        assertEquals(16, HangulCache.defaultSegmentCount(1_000_000, 4));
+        assertEquals(4, HangulCache.defaultSegmentCount(100, 128));
+        assertEquals(1, HangulCache.defaultSegmentCount(10, 4));
+
+        HangulCache cache = HangulCache.create(1);
+        assertEquals("궁물", cache.standardize("국물"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("잘못된 크기")
+    void invalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> HangulCache.create(0));
+        assertThrows(IllegalArgumentException.class, () -> HangulCache.create(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> HangulCache.create(100, 3));
+        assertThrows(IllegalArgumentException.class, () -> HangulCache.create(4, 8));
+    }
+}
@@ -0,0 +1,60 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulCollationKeyTest {
+
+    @Test
+    @DisplayName("자음은 그 자음으로 시작하는 음절 바로 앞에 온다")
+    void dictionaryOrder() {
+        List<String> expected = Arrays.asList(
+                "", " ", "1", "a", "ㄱ", "ㄱ가", "ㄳ", "가", "가ㄱ", "가나", "각", "갂", "개", "ㄲ", "까", "ㄴ", "나", "ㅏ", "ㅐ");
+        List<String> shuffled = new ArrayList<String>(expected);
+        Collections.shuffle(shuffled, new Random(15));
+        Collections.sort(shuffled, HangulCollationKey.COMPARATOR);
+        assertEquals(expected, shuffled);
+
+        for (int i = 1; i < expected.size(); i++) {
+            byte[] a = HangulCollationKey.of(expected.get(i - 1));
+            byte[] b = HangulCollationKey.of(expected.get(i));
+            assertTrue(HangulCollationKey.compare(a, b) < 0, expected.get(i - 1) + " < " + expected.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("키 형식")
+    void encoding() {
+        assertArrayEquals(new byte[]{0x10, 0x01, 0x00}, HangulCollationKey.of("가"));
+        assertArrayEquals(new byte[]{0x10, 0x00, 0x00}, HangulCollationKey.of("ㄱ"));
+        assertArrayEquals(new byte[]{0x30}, HangulCollationKey.of("ㅏ"));
+        assertArrayEquals(new byte[]{0x01, 0x00, 0x61}, HangulCollationKey.of("a"));
+        assertArrayEquals(new byte[]{0x22, 0x15, 0x1B}, HangulCollationKey.of("힣"));
+        assertEquals(7, HangulCollationKey.length("가ㅏa"));
+        byte[] dst = new byte[10];
+        assertEquals(7, HangulCollationKey.writeTo("가ㅏa", dst, 2));
+        assertEquals(0x30, dst[5]);
+    }
+
+    @Test
+    @DisplayName("바이트 비교와 문자열 비교의 결과가 같다")
+    void sameAsStringCompare() {
+        Random random = new Random(15);
+        String alphabet = "가각갃까ㄱㄲㄳㅏㅘa 1";
+        for (int t = 0; t < 3000; t++) {
+            String a = RandomStrings.of(random, alphabet, random.nextInt(5));
+            String b = RandomStrings.of(random, alphabet, random.nextInt(5));
+            int expected = Integer.signum(HangulCollationKey.compare(HangulCollationKey.of(a), HangulCollationKey.of(b)));
+            assertEquals(expected, Integer.signum(HangulCollationKey.compare(a, b)), a + " / " + b);
+            assertEquals(a.equals(b), expected == 0, a + " / " + b);
+        }
+    }
+}
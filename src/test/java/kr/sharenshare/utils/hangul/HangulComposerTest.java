@@ -0,0 +1,132 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulComposerTest {
+
+    @Nested
+    @DisplayName("append")
+    class AppendTest {
+
+        @Test
+        @DisplayName("입력할 때마다 Hangul.assembleString과 같은 결과를 보여준다")
+        void sameAsAssembleString() {
+            String jamo = Hangul.disassemble("닭고기를 값싸게 샀다, 뷁! abc");
+            HangulComposer composer = new HangulComposer();
+            for (int i = 0; i < jamo.length(); i++) {
+                composer.append(jamo.charAt(i));
+                assertEquals(Hangul.assembleString(jamo.substring(0, i + 1)), composer.toString());
+            }
+        }
+
+        @Test
+        @DisplayName("QWERTY 키를 입력하면 KeyboardConverter.convertQwertyToHangul과 같은 결과를 보여준다")
+        void appendQwerty() {
+            String keys = "dkssudgktpdy, RkqtTk 123";
+            HangulComposer composer = new HangulComposer();
+            for (int i = 0; i < keys.length(); i++) {
+                composer.appendQwerty(keys.charAt(i));
+                assertEquals(KeyboardConverter.convertQwertyToHangul(keys.substring(0, i + 1)), composer.toString());
+            }
+        }
+
+        @Test
+        @DisplayName("CharSequence로 조합 중인 글자까지 읽을 수 있다")
+        void charSequence() {
+            HangulComposer composer = new HangulComposer().append("ㅎㅏㄴㄱㅡㄹ");
+            assertTrue(composer.isComposing());
+            assertEquals(2, composer.length());
+            assertEquals('한', composer.charAt(0));
+            assertEquals('글', composer.charAt(1));
+            assertEquals("한", composer.subSequence(0, 1).toString());
+            assertEquals("글", composer.subSequence(1, 2).toString());
+            assertThrows(IndexOutOfBoundsException.class, () -> composer.charAt(2));
+            assertEquals("한글", composer.commit().toString());
+            assertFalse(composer.isComposing());
+        }
+
+        @Test
+        @DisplayName("조합 중에도 끝의 빈 구간과 조합 중인 글자만 잘라낼 수 있다")
+        void subSequenceAtPending() {
+            HangulComposer single = new HangulComposer().append("ㄱㅏ");
+            assertEquals("", single.subSequence(1, 1).toString());
+            assertEquals("가", single.subSequence(0, 1).toString());
+
+            HangulComposer composer = new HangulComposer().append("ㄱㅏㄴㅏ");
+            assertTrue(composer.isComposing());
+            assertEquals("", composer.subSequence(composer.length(), composer.length()).toString());
+            assertEquals("나", composer.subSequence(composer.length() - 1, composer.length()).toString());
+            assertEquals("가나", new StringBuilder().append(composer, 0, 2).toString());
+            assertThrows(IndexOutOfBoundsException.class, () -> composer.subSequence(2, 3));
+            assertThrows(IndexOutOfBoundsException.class, () -> composer.subSequence(2, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("backspace")
+    class BackspaceTest {
+
+        @Test
+        @DisplayName("조합 중인 글자에서 자모를 하나씩 지운다")
+        void removePending() {
+            HangulComposer composer = new HangulComposer().append("ㄱㅗㅏㅂㅅ");
+            assertEquals("괎", composer.toString());
+            composer.backspace();
+            assertEquals("괍", composer.toString());
+            composer.backspace();
+            assertEquals("과", composer.toString());
+            composer.backspace();
+            assertEquals("고", composer.toString());
+            composer.backspace();
+            assertEquals("ㄱ", composer.toString());
+            composer.backspace();
+            assertEquals("", composer.toString());
+            assertFalse(composer.backspace());
+        }
+
+        @Test
+        @DisplayName("확정된 글자는 Hangul.removeLastCharacter와 같이 지운다")
+        void removeCommitted() {
+            String[] words = {"닭고기", "값", "ㄳ", "ㅘ", "가나다!", "갔다"};
+            for (String word : words) {
+                HangulComposer composer = new HangulComposer().append(word).commit();
+                String expected = word;
+                while (!expected.isEmpty()) {
+                    assertTrue(composer.backspace());
+                    expected = Hangul.removeLastCharacter(expected);
+                    assertEquals(expected, composer.toString(), word);
+                }
+                assertFalse(composer.backspace());
+            }
+        }
+
+        @Test
+        @DisplayName("지운 뒤 이어서 입력하면 다시 조합한다")
+        void continueAfterBackspace() {
+            HangulComposer composer = new HangulComposer().append("ㄷㅏㄹㄱㅣ");
+            assertEquals("달기", composer.toString());
+            composer.backspace();
+            composer.backspace();
+            assertEquals("달", composer.toString());
+            composer.backspace();
+            assertEquals("다", composer.toString());
+            composer.append('ㅁ');
+            assertEquals("담", composer.toString());
+            composer.append('ㅏ');
+            assertEquals("다마", composer.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("clear는 모든 입력을 지운다")
+    void clear() {
+        HangulComposer composer = new HangulComposer(16).append("ㄱㅏㄴ");
+        composer.clear();
+        assertEquals(0, composer.length());
+        assertEquals("", composer.toString());
+    }
+}
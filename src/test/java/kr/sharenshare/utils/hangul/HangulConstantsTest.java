@@ -0,0 +1,74 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulConstantsTest {
+
+    @Test
+    @DisplayName("초성/중성/종성 인덱스를 배열 순서대로 반환한다")
+    void indexLookup() {
+        for (int i = 0; i < HangulConstants.CHOSEONG.length; i++) {
+            assertEquals(i, HangulConstants.getChoseongIndex(HangulConstants.CHOSEONG[i]));
+        }
+        for (int i = 0; i < HangulConstants.JUNGSEONG.length; i++) {
+            assertEquals(i, HangulConstants.getJungseongIndex(HangulConstants.JUNGSEONG[i]));
+        }
+        for (int i = 0; i < HangulConstants.JONGSEONG.length; i++) {
+            assertEquals(i, HangulConstants.getJongseongIndex(HangulConstants.JONGSEONG[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("해당하지 않는 문자는 -1을 반환한다")
+    void indexLookupMiss() {
+        assertEquals(-1, HangulConstants.getChoseongIndex('ㄳ'));
+        assertEquals(-1, HangulConstants.getChoseongIndex('ㅏ'));
+        assertEquals(-1, HangulConstants.getJungseongIndex('ㄱ'));
+        assertEquals(-1, HangulConstants.getJongseongIndex('ㄸ'));
+        assertEquals(-1, HangulConstants.getJongseongIndex('가'));
+        assertEquals(-1, HangulConstants.getChoseongIndex('a'));
+    }
+
+    @Test
+    @DisplayName("겹자음/겹모음 분해와 조합이 Map 정의와 일치한다")
+    void doubleJamoMatchesMaps() {
+        for (Map.Entry<Character, String> entry : HangulConstants.DOUBLE_CONSONANT_MAP.entrySet()) {
+            char first = entry.getValue().charAt(0);
+            char second = entry.getValue().charAt(1);
+            assertEquals(first, HangulConstants.getDoubleJamoFirst(entry.getKey()));
+            assertEquals(second, HangulConstants.getDoubleJamoSecond(entry.getKey()));
+            assertEquals(entry.getKey().charValue(), HangulConstants.combineDoubleConsonant(first, second));
+            assertEquals('\0', HangulConstants.combineDoubleVowel(first, second));
+        }
+        for (Map.Entry<Character, String> entry : HangulConstants.DOUBLE_VOWEL_MAP.entrySet()) {
+            char first = entry.getValue().charAt(0);
+            char second = entry.getValue().charAt(1);
+            assertEquals(first, HangulConstants.getDoubleJamoFirst(entry.getKey()));
+            assertEquals(second, HangulConstants.getDoubleJamoSecond(entry.getKey()));
+            assertEquals(entry.getKey().charValue(), HangulConstants.combineDoubleVowel(first, second));
+        }
+        assertEquals('\0', HangulConstants.getDoubleJamoFirst('ㄲ'));
+        assertEquals('\0', HangulConstants.combineDoubleConsonant('ㅅ', 'ㄱ'));
+        assertEquals('\0', HangulConstants.combineDoubleVowel('ㅏ', 'ㅗ'));
+        assertEquals('\0', HangulConstants.combineDoubleVowel('a', 'ㅗ'));
+    }
+
+    @Test
+    @DisplayName("QWERTY 변환이 Map 정의와 일치한다")
+    void qwertyMatchesMaps() {
+        for (Map.Entry<Character, Character> entry : HangulConstants.QWERTY_TO_HANGUL_MAP.entrySet()) {
+            assertEquals(entry.getValue().charValue(), HangulConstants.qwertyToJamo(entry.getKey()));
+        }
+        for (Map.Entry<Character, Character> entry : HangulConstants.HANGUL_TO_QWERTY_MAP.entrySet()) {
+            assertEquals(entry.getValue().charValue(), HangulConstants.jamoToQwerty(entry.getKey()));
+        }
+        assertEquals('\0', HangulConstants.qwertyToJamo('1'));
+        assertEquals('\0', HangulConstants.qwertyToJamo('가'));
+        assertEquals('\0', HangulConstants.jamoToQwerty('ㄳ'));
+    }
+}
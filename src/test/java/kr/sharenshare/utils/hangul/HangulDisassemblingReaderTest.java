@@ -0,0 +1,63 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulDisassemblingReaderTest {
+
+    private static final String TEXT = "뷁 값을 치르고 닭고기를 샀다. abc 123 ㄳㅘ";
+
+    private static String readAll(Reader reader, int chunk) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        char[] buf = new char[chunk];
+        int n;
+        while ((n = reader.read(buf, 0, buf.length)) != -1) {
+            sb.append(buf, 0, n);
+        }
+        return sb.toString();
+    }
+
+    @Test
+    @DisplayName("Hangul.disassemble과 같은 결과를 읽는다")
+    void read() throws IOException {
+        String expected = Hangul.disassemble(TEXT);
+        assertEquals(expected, readAll(new HangulDisassemblingReader(new StringReader(TEXT)), 64));
+        assertEquals(expected, readAll(new HangulDisassemblingReader(new StringReader(TEXT), 1), 3));
+        assertEquals(expected, readAll(new HangulDisassemblingReader(new StringReader(TEXT), 4), 7));
+    }
+
+    @Test
+    @DisplayName("한 글자씩 읽을 수 있다")
+    void readSingle() throws IOException {
+        Reader reader = new HangulDisassemblingReader(new StringReader("값a"), 1);
+        assertEquals('ㄱ', reader.read());
+        assertEquals('ㅏ', reader.read());
+        assertEquals('ㅂ', reader.read());
+        assertEquals('ㅅ', reader.read());
+        assertEquals('a', reader.read());
+        assertEquals(-1, reader.read());
+    }
+
+    @Test
+    @DisplayName("skip은 분해된 자모 기준으로 건너뛴다")
+    void skip() throws IOException {
+        Reader reader = new HangulDisassemblingReader(new StringReader("값을"), 1);
+        assertEquals(3, reader.skip(3));
+        assertEquals('ㅅ', reader.read());
+        assertEquals(3, reader.skip(10));
+        assertEquals(-1, reader.read());
+    }
+
+    @Test
+    @DisplayName("빈 입력과 잘못된 버퍼 크기")
+    void edgeCases() throws IOException {
+        assertEquals(-1, new HangulDisassemblingReader(new StringReader("")).read());
+        assertThrows(IllegalArgumentException.class, () -> new HangulDisassemblingReader(new StringReader(""), 0));
+    }
+}
@@ -0,0 +1,160 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HangulIndexFile 테스트")
+class HangulIndexFileTest {
+
+    private static final List<String> WORDS = Arrays.asList("사과", "바나나", "수박", "사자", "닭갈비", "달걀", "apple");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("저장 후 매핑한 색인은 힙 색인과 같은 결과")
+    void roundTrip() throws IOException {
+        ChoseongIndex index = ChoseongIndex.build(WORDS);
+        HangulAutocomplete.Builder builder = HangulAutocomplete.builder();
+        for (int i = 0; i < WORDS.size(); i++) {
+            builder.add(WORDS.get(i), i);
+        }
+        HangulAutocomplete autocomplete = builder.build();
+        JamoLexicon lexicon = JamoLexicon.build(WORDS);
+
+        Path path = dir.resolve("words.hgix");
+        HangulIndexFile.builder().add(index).add(autocomplete).add(lexicon).write(path);
+        HangulIndexFile file = HangulIndexFile.open(path);
+
+        ChoseongIndex mappedIndex = file.getChoseongIndex();
+        assertEquals(index.size(), mappedIndex.size());
+        for (String query : new String[]{"ㅅ", "ㅂㄴ", "ㅂㄴㄴ", "ㄷㄱㅂ", "a", "ㅎ"}) {
+            assertArrayEquals(index.search(query), mappedIndex.search(query), query);
+        }
+        for (String prefix : new String[]{"", "사", "달ㄱ", "닭", "ㅂ"}) {
+            assertEquals(autocomplete.complete(prefix, 10), file.getAutocomplete().complete(prefix, 10), prefix);
+        }
+        assertEquals(lexicon.suggest("사가", 1), file.getLexicon().suggest("사가", 1));
+        assertEquals(lexicon.size(), file.getLexicon().size());
+    }
+
+    @Test
+    @DisplayName("큰 색인도 여러 조각으로 나누어 저장")
+    void largeIndex() throws IOException {
+        List<String> documents = new ArrayList<String>();
+        for (int i = 0; i < 20000; i++) {
+            documents.add(String.valueOf((char) (0xAC00 + (i * 7919) % 11172)) + (char) (0xAC00 + i % 11172));
+        }
+        ChoseongIndex index = ChoseongIndex.build(documents);
+        Path path = dir.resolve("large.hgix");
+        HangulIndexFile.builder().add(index).write(path);
+        ChoseongIndex mapped = HangulIndexFile.open(path).getChoseongIndex();
+        assertArrayEquals(index.search("ㄱㄴ"), mapped.search("ㄱㄴ"));
+        assertArrayEquals(index.search("ㅎ", 100), mapped.search("ㅎ", 100));
+    }
+
+    @Test
+    @DisplayName("저장하지 않은 구역은 null")
+    void missingSections() throws IOException {
+        Path path = dir.resolve("empty.hgix");
+        HangulIndexFile.builder().add(JamoLexicon.build(Collections.<String>emptyList())).write(path);
+        HangulIndexFile file = HangulIndexFile.open(path);
+        assertNull(file.getChoseongIndex());
+        assertNull(file.getAutocomplete());
+        assertEquals(0, file.getLexicon().size());
+    }
+
+    @Test
+    @DisplayName("같은 구역을 두 번 등록하면 예외")
+    void duplicateSection() {
+        ChoseongIndex index = ChoseongIndex.build(WORDS);
+        assertThrows(IllegalArgumentException.class, () -> HangulIndexFile.builder().add(index).add(index));
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 파일은 IOException")
+    void invalidFiles() throws IOException {
+        Path notIndex = dir.resolve("text.txt");
+        Files.write(notIndex, "hello world, not an index".getBytes("UTF-8"));
+        assertThrows(IOException.class, () -> HangulIndexFile.open(notIndex));
+
+        Path path = dir.resolve("words.hgix");
+        HangulIndexFile.builder().add(ChoseongIndex.build(WORDS)).write(path);
+        byte[] bytes = Files.readAllBytes(path);
+
+        byte[] version = bytes.clone();
+        version[4] = 99;
+        Path wrongVersion = dir.resolve("version.hgix");
+        Files.write(wrongVersion, version);
+        assertThrows(IOException.class, () -> HangulIndexFile.open(wrongVersion));
+
+        Path truncated = dir.resolve("truncated.hgix");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(IOException.class, () -> HangulIndexFile.open(truncated));
+    }
+
+    @Test
+    @DisplayName("int 배열 값을 하나씩 망가뜨려도 open이 IOException을 던지거나 검색이 범위를 벗어나지 않음")
+    void corruptValues() throws IOException {
+        HangulAutocomplete.Builder builder = HangulAutocomplete.builder();
+        for (int i = 0; i < WORDS.size(); i++) {
+            builder.add(WORDS.get(i), i);
+        }
+        Path path = dir.resolve("words.hgix");
+        HangulIndexFile.builder().add(ChoseongIndex.build(WORDS)).add(builder.build())
+                .add(JamoLexicon.build(WORDS)).write(path);
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer file = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        Path corrupt = dir.resolve("corrupt.hgix");
+        int rejected = 0;
+        int position = 16;
+        for (int section = 0, sectionCount = file.getInt(8); section < sectionCount; section++) {
+            int arrayCount = file.getInt(position + 4);
+            position += 8;
+            for (int a = 0; a < arrayCount; a++, position += 16) {
+                int offset = (int) file.getLong(position);
+                int elementSize = file.getInt(position + 8);
+                int count = file.getInt(position + 12);
+                if (elementSize != 4) {
+                    continue;
+                }
+                for (int i = 0; i < count; i++) {
+                    for (int value : new int[]{-2, 0, 1, 1 << 20}) {
+                        ByteBuffer copy = ByteBuffer.wrap(bytes.clone()).order(ByteOrder.LITTLE_ENDIAN);
+                        copy.putInt(offset + i * 4, value);
+                        Files.write(corrupt, copy.array());
+                        HangulIndexFile opened;
+                        try {
+                            opened = HangulIndexFile.open(corrupt);
+                        } catch (IOException e) {
+                            rejected++;
+                            continue;
+                        }
+                        for (String query : new String[]{"ㅅ", "ㅂㄴ", "ㄷㄱㅂ", "a"}) {
+                            opened.getChoseongIndex().search(query);
+                        }
+                        for (String prefix : new String[]{"", "사", "달ㄱ"}) {
+                            opened.getAutocomplete().complete(prefix, 10);
+                        }
+                        opened.getLexicon().suggest("사가", 2);
+                    }
+                }
+            }
+        }
+        assertTrue(rejected > 0);
+    }
+}
@@ -0,0 +1,99 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulRangeMatcherTest {
+
+    @Test
+    @DisplayName("초성은 그 초성의 블록과 일치한다")
+    void choseong() {
+        HangulRangeMatcher matcher = HangulRangeMatcher.compile("ㅅㄱ");
+        assertEquals(4, matcher.find("맛있는 사과"));
+        assertEquals(0, matcher.find("ㅅ격"));
+        assertEquals(-1, matcher.find("사람"));
+    }
+
+    @Test
+    @DisplayName("받침 없는 마지막 음절은 받침이나 겹모음이 붙은 음절과도 일치한다")
+    void openSyllable() {
+        HangulRangeMatcher matcher = HangulRangeMatcher.compile("사고");
+        assertTrue(matcher.matchesPrefix("사고"));
+        assertTrue(matcher.matchesPrefix("사곡"));
+        assertTrue(matcher.matchesPrefix("사과"));
+        assertTrue(matcher.matchesPrefix("사괜찮"));
+        assertFalse(matcher.matchesPrefix("사구"));
+        assertFalse(matcher.matchesPrefix("수고"));
+    }
+
+    @Test
+    @DisplayName("받침 있는 마지막 음절은 겹받침이 되거나 받침이 다음 글자 초성인 경우와 일치한다")
+    void closedSyllable() {
+        HangulRangeMatcher matcher = HangulRangeMatcher.compile("달");
+        assertTrue(matcher.matchesPrefix("달"));
+        assertTrue(matcher.matchesPrefix("닭"));
+        assertTrue(matcher.matchesPrefix("닳다"));
+        assertTrue(matcher.matchesPrefix("다리"));
+        assertFalse(matcher.matchesPrefix("다"));
+        assertFalse(matcher.matchesPrefix("단"));
+
+        HangulRangeMatcher cluster = HangulRangeMatcher.compile("닭");
+        assertTrue(cluster.matchesPrefix("닭"));
+        assertTrue(cluster.matchesPrefix("달걀"));
+        assertFalse(cluster.matchesPrefix("달"));
+        assertFalse(cluster.matchesPrefix("달리"));
+    }
+
+    @Test
+    @DisplayName("자모 검색어는 먼저 조합한다")
+    void assembleFirst() {
+        assertTrue(HangulRangeMatcher.compile("ㄷㅏㄹㄱ").matchesPrefix("닭갈비"));
+        assertTrue(HangulRangeMatcher.compile("달ㄱ").matchesPrefix("달걀"));
+        assertTrue(HangulRangeMatcher.compile("닭ㄱ").matchesPrefix("닭고기"));
+        assertFalse(HangulRangeMatcher.compile("닭ㄱ").matchesPrefix("닭"));
+        assertEquals(2, HangulRangeMatcher.compile("ㅅㅏㄱ").find("a 삭제"));
+    }
+
+    @Test
+    @DisplayName("음절 뒤에 친 자모는 받침이나 다음 글자 초성으로 조합한다")
+    void syllableFollowedByJamo() {
+        assertEquals(2, HangulRangeMatcher.compile("사ㄱ").find("a 삭제"));
+        assertEquals(4, HangulRangeMatcher.compile("사ㄱ").find("맛있는 사과"));
+        assertTrue(HangulRangeMatcher.compile("달ㄱ").matchesPrefix("닭"));
+        assertTrue(HangulRangeMatcher.compile("다ㄹㄱ").matchesPrefix("닭"));
+        for (String query : new String[]{"사ㄱ", "달ㄱ", "다ㄹㄱ"}) {
+            assertEquals(HangulRangeMatcher.compile(Hangul.disassemble(query)).toRegex(),
+                    HangulRangeMatcher.compile(query).toRegex());
+        }
+    }
+
+    @Test
+    @DisplayName("빈 검색어와 한글이 아닌 문자")
+    void edgeCases() {
+        assertEquals(0, HangulRangeMatcher.compile("").find(""));
+        assertEquals(0, HangulRangeMatcher.compile("").find("abc"));
+        assertEquals(1, HangulRangeMatcher.compile("b가").find("ab각"));
+        assertEquals(-1, HangulRangeMatcher.compile("가").find(""));
+        assertThrows(IllegalArgumentException.class, () -> HangulRangeMatcher.compile(null));
+    }
+
+    @Test
+    @DisplayName("정규식과 같은 결과를 낸다")
+    void sameAsPattern() {
+        Random random = new Random(13);
+        String alphabet = "가각갃고과괘구ㄱㅅ달닭닳다리a.";
+        for (int t = 0; t < 2000; t++) {
+            String query = RandomStrings.of(random, alphabet, random.nextInt(4));
+            String text = RandomStrings.of(random, alphabet, random.nextInt(8));
+            HangulRangeMatcher matcher = HangulRangeMatcher.compile(query);
+            Matcher m = matcher.toPattern().matcher(text);
+            assertEquals(m.find() ? m.start() : -1, matcher.find(text), query + " / " + text);
+            assertEquals(matcher.toPattern().matcher(text).lookingAt(), matcher.matchesPrefix(text), query + " / " + text);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulSyllableTest {
+
+    @Test
+    @DisplayName("한글 완성형 문자를 char 필드로 분해한다")
+    void of() {
+        HangulSyllable syllable = HangulSyllable.of('값');
+        assertNotNull(syllable);
+        assertEquals('값', syllable.getSyllable());
+        assertEquals('ㄱ', syllable.getChoseong());
+        assertEquals('ㅏ', syllable.getJungseong());
+        assertEquals('ㅄ', syllable.getJongseong());
+        assertTrue(syllable.hasBatchim());
+    }
+
+    @Test
+    @DisplayName("받침이 없으면 종성은 NO_JONGSEONG이다")
+    void noJongseong() {
+        HangulSyllable syllable = HangulSyllable.of('리');
+        assertNotNull(syllable);
+        assertEquals(HangulSyllable.NO_JONGSEONG, syllable.getJongseong());
+        assertFalse(syllable.hasBatchim());
+    }
+
+    @Test
+    @DisplayName("완성된 한글이 아니면 null을 반환한다")
+    void ofNonHangul() {
+        assertNull(HangulSyllable.of('ㄱ'));
+        assertNull(HangulSyllable.of('a'));
+    }
+
+    @Test
+    @DisplayName("같은 음절은 같은 인스턴스를 반환한다")
+    void sharedInstance() {
+        assertSame(HangulSyllable.of('닭'), HangulSyllable.of('닭'));
+        assertSame(Hangul.disassembleCompleteCharacter('닭'), Hangul.disassembleCompleteCharacter('닭'));
+        assertSame(Hangul.disassembleCompleteCharacter('닭'), HangulSyllable.of('닭').toHangulChar());
+    }
+
+    @Test
+    @DisplayName("Set의 키로 사용할 수 있다")
+    void usableAsKey() {
+        Set<HangulSyllable> set = new HashSet<HangulSyllable>();
+        for (char c : "가나다가나".toCharArray()) {
+            set.add(HangulSyllable.of(c));
+        }
+        assertEquals(3, set.size());
+        assertTrue(set.contains(HangulSyllable.of('다')));
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.List;
 
@@ -71,6 +73,89 @@ class HangulTest {
         }
     }
 
+    @Nested
+    @DisplayName("버퍼 재사용 오버로드 테스트")
+    class BufferOverloadTest {
+
+        @Test
+        @DisplayName("StringBuilder에 분해 결과를 이어 붙인다")
+        void disassembleToStringBuilder() {
+            StringBuilder sb = new StringBuilder("앞:");
+            assertSame(sb, Hangul.disassemble("값이 비싸다", sb));
+            assertEquals("앞:ㄱㅏㅂㅅㅇㅣ ㅂㅣㅆㅏㄷㅏ", sb.toString());
+        }
+
+        @Test
+        @DisplayName("Appendable에 분해, 초성, 조합 결과를 기록한다")
+        void writeToAppendable() throws IOException {
+            StringWriter writer = new StringWriter();
+            Hangul.disassemble("사과 ㅘ", writer);
+            writer.append('|');
+            Hangul.getChoseong("프론트엔드", writer);
+            writer.append('|');
+            Hangul.assembleString("ㅇㅏㅂㅓㅈㅣ", writer);
+            assertEquals("ㅅㅏㄱㅗㅏ ㅗㅏ|ㅍㄹㅌㅇㄷ|아버지", writer.toString());
+        }
+
+        @Test
+        @DisplayName("char 배열의 지정한 위치부터 기록하고 기록한 길이를 반환한다")
+        void writeToCharArray() {
+            char[] buffer = new char[32];
+            int written = Hangul.disassemble("괅", buffer, 2);
+            assertEquals(5, written);
+            assertEquals("ㄱㅗㅏㄹㄱ", new String(buffer, 2, written));
+
+            written = Hangul.getChoseong("띄어 쓰기", buffer, 0);
+            assertEquals("ㄸㅇ ㅆㄱ", new String(buffer, 0, written));
+
+            written = Hangul.assembleString("ㄷㅏㄹㄱㄱㅏㄹㅂㅣ", buffer, 1);
+            assertEquals("닭갈비", new String(buffer, 1, written));
+        }
+
+        @Test
+        @DisplayName("하나의 버퍼를 여러 입력에 재사용할 수 있다")
+        void reuseBuffer() {
+            StringBuilder sb = new StringBuilder();
+            String[] inputs = {"ㅇㅏㄴㄴㅕㅇ", "ㄱㅏㅂㅅㅇㅣ", "ㅂㅜㄹㄱㅗㄱㅣ"};
+            for (String input : inputs) {
+                sb.setLength(0);
+                assertEquals(Hangul.assembleString(input), Hangul.assembleString(input, sb).toString());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("원문 위치 오버로드 테스트")
+    class OffsetOverloadTest {
+
+        @Test
+        @DisplayName("분해한 자모마다 원문 위치를 기록한다")
+        void disassembleWithSourceIndexes() {
+            char[] dst = new char[32];
+            int[] sourceIndexes = new int[32];
+            int written = Hangul.disassemble("a괅ㄳ", dst, 1, sourceIndexes);
+            assertEquals("aㄱㅗㅏㄹㄱㄱㅅ", new String(dst, 1, written));
+            assertArrayEquals(new int[]{0, 1, 1, 1, 1, 1, 2, 2}, Arrays.copyOfRange(sourceIndexes, 1, 1 + written));
+        }
+
+        @Test
+        @DisplayName("초성은 같은 위치를 기록한다")
+        void choseongWithSourceIndexes() {
+            char[] dst = new char[8];
+            int[] sourceIndexes = new int[8];
+            int written = Hangul.getChoseong("한 글", dst, 2, sourceIndexes);
+            assertEquals("ㅎ ㄱ", new String(dst, 2, written));
+            assertArrayEquals(new int[]{0, 1, 2}, Arrays.copyOfRange(sourceIndexes, 2, 5));
+        }
+
+        @Test
+        @DisplayName("null 입력은 0을 반환한다")
+        void nullInput() {
+            assertEquals(0, Hangul.disassemble(null, new char[0], 0, new int[0]));
+            assertEquals(0, Hangul.getChoseong(null, new char[0], 0, new int[0]));
+        }
+    }
+
     @Nested
     @DisplayName("disassembleToGroups 테스트")
     class DisassembleToGroupsTest {
@@ -185,6 +270,52 @@ class HangulTest {
         }
     }
 
+    @Nested
+    @DisplayName("decomposePacked 테스트")
+    class DecomposePackedTest {
+
+        @Test
+        @DisplayName("초성/중성/종성 인덱스를 하나의 int로 반환한다")
+        void decomposePacked() {
+            int packed = Hangul.decomposePacked('값');
+            assertEquals(0, Hangul.packedChoseongIndex(packed));
+            assertEquals(0, Hangul.packedJungseongIndex(packed));
+            assertEquals(18, Hangul.packedJongseongIndex(packed));
+
+            packed = Hangul.decomposePacked('힣');
+            assertEquals(18, Hangul.packedChoseongIndex(packed));
+            assertEquals(20, Hangul.packedJungseongIndex(packed));
+            assertEquals(27, Hangul.packedJongseongIndex(packed));
+        }
+
+        @Test
+        @DisplayName("모든 완성형 문자에 대해 disassembleCompleteCharacter와 같은 결과를 반환한다")
+        void decomposePackedMatchesDisassemble() {
+            for (char c = HangulConstants.HANGUL_START; c <= HangulConstants.HANGUL_END; c++) {
+                int packed = Hangul.decomposePacked(c);
+                HangulChar hangulChar = Hangul.disassembleCompleteCharacter(c);
+                int jongseongIndex = Hangul.packedJongseongIndex(packed);
+
+                assertEquals(hangulChar.getChoseong().charValue(), HangulConstants.CHOSEONG[Hangul.packedChoseongIndex(packed)]);
+                assertEquals(hangulChar.getJungseong().charValue(), HangulConstants.JUNGSEONG[Hangul.packedJungseongIndex(packed)]);
+                if (jongseongIndex == 0) {
+                    assertNull(hangulChar.getJongseong());
+                } else {
+                    assertEquals(hangulChar.getJongseong().charValue(), HangulConstants.JONGSEONG[jongseongIndex]);
+                }
+                assertEquals(c, Hangul.assemblePacked(packed));
+            }
+        }
+
+        @Test
+        @DisplayName("완성된 한글이 아니면 -1을 반환한다")
+        void decomposePackedNonHangul() {
+            assertEquals(-1, Hangul.decomposePacked('ㄱ'));
+            assertEquals(-1, Hangul.decomposePacked('ㅏ'));
+            assertEquals(-1, Hangul.decomposePacked('a'));
+        }
+    }
+
     @Nested
     @DisplayName("getChoseong 테스트")
     class GetChoseongTest {
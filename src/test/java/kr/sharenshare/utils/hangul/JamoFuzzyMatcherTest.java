@@ -0,0 +1,91 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JamoFuzzyMatcherTest {
+
+    @Test
+    @DisplayName("자모 단위로 편집 거리를 계산한다")
+    void distance() {
+        JamoFuzzyMatcher matcher = JamoFuzzyMatcher.compile("사과");
+        assertEquals(5, matcher.length());
+        assertEquals(0, matcher.distance("사과"));
+        assertEquals(1, matcher.distance("사가"));
+        assertEquals(1, matcher.distance("사관"));
+        assertEquals(2, matcher.distance("사고기"));
+        assertEquals(5, matcher.distance(""));
+        assertEquals(3, JamoFuzzyMatcher.compile("").distance("가a"));
+        assertEquals(1, JamoFuzzyMatcher.compile("abc").distance("abd"));
+    }
+
+    @Test
+    @DisplayName("편집 거리가 maxDistance 이하인지 확인한다")
+    void matches() {
+        JamoFuzzyMatcher matcher = JamoFuzzyMatcher.compile("닭갈비");
+        assertTrue(matcher.matches("닭갈비", 0));
+        assertTrue(matcher.matches("달갈비", 1));
+        assertFalse(matcher.matches("달갈비", 0));
+        assertFalse(matcher.matches("닭", 2));
+        assertFalse(matcher.matches("닭갈비", -1));
+    }
+
+    @Test
+    @DisplayName("자모로 분해한 문자열의 동적 계획법 결과와 같다")
+    void sameAsDynamicProgramming() {
+        Random random = new Random(11);
+        String alphabet = "가각갃과닭ㄱㅘa ";
+        for (int t = 0; t < 3000; t++) {
+            // 64자모를 넘는 검색어로 블록 경계도 확인
+            int queryLength = t % 10 == 0 ? 20 + random.nextInt(30) : random.nextInt(8);
+            String query = RandomStrings.of(random, alphabet, queryLength);
+            String candidate = random.nextInt(4) == 0
+                    ? mutate(random, query, alphabet)
+                    : RandomStrings.of(random, alphabet, random.nextInt(queryLength + 3));
+            int expected = levenshtein(Hangul.disassemble(query), Hangul.disassemble(candidate));
+            JamoFuzzyMatcher matcher = JamoFuzzyMatcher.compile(query);
+            assertEquals(expected, matcher.distance(candidate), query + " / " + candidate);
+            int k = random.nextInt(6);
+            assertEquals(expected <= k, matcher.matches(candidate, k), query + " / " + candidate + " / " + k);
+        }
+    }
+
+    private static String mutate(Random random, String str, String alphabet) {
+        StringBuilder sb = new StringBuilder(str);
+        for (int i = random.nextInt(3); i >= 0 && sb.length() > 0; i--) {
+            int pos = random.nextInt(sb.length());
+            sb.setCharAt(pos, alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] tmp = previous;
+            previous = current;
+            current = tmp;
+        }
+        return previous[b.length()];
+    }
+
+    @Test
+    @DisplayName("null은 비교할 수 없다")
+    void nullInput() {
+        assertThrows(IllegalArgumentException.class, () -> JamoFuzzyMatcher.compile(null));
+        assertThrows(IllegalArgumentException.class, () -> JamoFuzzyMatcher.compile("가").distance(null));
+    }
+}
@@ -0,0 +1,84 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JamoLexiconTest {
+
+    @Test
+    @DisplayName("자모 단위 편집 거리 안의 단어를 가까운 순서로 찾는다")
+    void suggest() {
+        JamoLexicon lexicon = JamoLexicon.build(Arrays.asList("사과", "사자", "바나나", "사가", "사과", "apple"));
+        assertEquals(5, lexicon.size());
+        assertEquals(Arrays.asList("사과"), lexicon.suggest("사과", 0));
+        assertEquals(Arrays.asList("사가", "사과", "사자"), lexicon.suggest("사가", 1));
+        assertEquals(Arrays.asList("사과", "사가"), lexicon.suggest("사과", 1));
+        assertEquals(Arrays.asList("사과", "사가", "사자"), lexicon.suggest("사과", 2));
+        assertEquals(Arrays.asList("apple"), lexicon.suggest("aple", 1));
+        assertEquals(Collections.emptyList(), lexicon.suggest("사과", -1));
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 maxDistance 자모 이하의 단어를 찾는다")
+    void emptyQuery() {
+        JamoLexicon lexicon = JamoLexicon.build(Arrays.asList("가", "a", ""));
+        assertEquals(Arrays.asList(""), lexicon.suggest("", 0));
+        assertEquals(Arrays.asList("", "a"), lexicon.suggest("", 1));
+        assertEquals(Arrays.asList("", "a", "가"), lexicon.suggest("", 2));
+    }
+
+    @Test
+    @DisplayName("모든 단어를 JamoFuzzyMatcher로 확인한 결과와 같다")
+    void sameAsFuzzyMatcher() {
+        Random random = new Random(12);
+        String alphabet = "가각갃과닭ㄱㅘa";
+        Set<String> wordSet = new LinkedHashSet<String>();
+        for (int i = 0; i < 400; i++) {
+            wordSet.add(RandomStrings.of(random, alphabet, random.nextInt(5)));
+        }
+        final List<String> words = new ArrayList<String>(wordSet);
+        JamoLexicon lexicon = JamoLexicon.build(words);
+        for (int t = 0; t < 200; t++) {
+            String query = RandomStrings.of(random, alphabet, random.nextInt(5));
+            int k = random.nextInt(4);
+            final JamoFuzzyMatcher matcher = JamoFuzzyMatcher.compile(query);
+            List<String> expected = new ArrayList<String>();
+            for (String word : words) {
+                if (matcher.matches(word, k)) {
+                    expected.add(word);
+                }
+            }
+            Collections.sort(expected, new Comparator<String>() {
+                @Override
+                public int compare(String a, String b) {
+                    int c = Integer.compare(matcher.distance(a), matcher.distance(b));
+                    return c != 0 ? c : Hangul.disassemble(a).compareTo(Hangul.disassemble(b));
+                }
+            });
+            assertEquals(expected, lexicon.suggest(query, k), query + " / " + k);
+        }
+    }
+
+    @Test
+    @DisplayName("63자모를 넘는 검색어는 사용할 수 없다")
+    void tooLongQuery() {
+        JamoLexicon lexicon = JamoLexicon.build(Arrays.asList("가"));
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 32; i++) {
+            sb.append("가");
+        }
+        assertEquals(Collections.emptyList(), lexicon.suggest(sb.substring(2), 1));
+        assertThrows(IllegalArgumentException.class, () -> lexicon.suggest(sb.toString(), 1));
+    }
+}
@@ -0,0 +1,62 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JamoMinHash 테스트")
+class JamoMinHashTest {
+
+    private final JamoMinHash minHash = JamoMinHash.create(3, 256, 42);
+
+    @Test
+    @DisplayName("받침 하나만 다른 문자열은 서명이 비슷함")
+    void finalConsonantChange() {
+        double similarity = JamoMinHash.similarity(minHash.signature("닭갈비 맛집"), minHash.signature("닭갈빗 맛집"));
+        // 자모 3-gram Jaccard 유사도 10/15
+        assertEquals(2.0 / 3, similarity, 0.12);
+    }
+
+    @Test
+    @DisplayName("띄어쓰기만 다른 문자열은 서명이 같음")
+    void spacingChange() {
+        assertArrayEquals(minHash.signature("닭갈비 맛집"), minHash.signature("닭 갈비맛집"));
+    }
+
+    @Test
+    @DisplayName("관계없는 문자열은 서명이 거의 다름")
+    void unrelated() {
+        assertTrue(JamoMinHash.similarity(minHash.signature("닭갈비 맛집"), minHash.signature("바다 전망 호텔")) < 0.1);
+    }
+
+    @Test
+    @DisplayName("같은 인자로 만든 생성기는 같은 서명을 만듦")
+    void deterministic() {
+        JamoMinHash other = JamoMinHash.create(3, 256, 42);
+        assertArrayEquals(minHash.signature("한글 서명"), other.signature("한글 서명"));
+        int[] dst = new int[300];
+        other.signature("한글 서명", dst, 10);
+        assertEquals(minHash.signature("한글 서명")[0], dst[10]);
+    }
+
+    @Test
+    @DisplayName("짧은 문자열과 빈 문자열")
+    void shortText() {
+        assertEquals(1.0, JamoMinHash.similarity(minHash.signature("가"), minHash.signature("가")));
+        assertTrue(JamoMinHash.similarity(minHash.signature("가"), minHash.signature("나")) < 0.1);
+        for (int v : minHash.signature(" ")) {
+            assertEquals(-1, v);
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 인자는 예외")
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> JamoMinHash.create(0, 64, 0));
+        assertThrows(IllegalArgumentException.class, () -> JamoMinHash.create(3, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> minHash.signature(null));
+        assertThrows(IllegalArgumentException.class, () -> JamoMinHash.similarity(new int[1], new int[2]));
+        assertEquals(64, JamoMinHash.create().hashCount());
+    }
+}
@@ -0,0 +1,53 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyboardLayoutQueryTest {
+
+    @Test
+    @DisplayName("한 번에 KeyboardConverter와 같은 해석을 만든다")
+    void interpretations() {
+        String[] queries = {"dkssud", "안녕", "ㅁㅔㅔㅣㄷ", "Rkcl 123", "vm론트", ""};
+        for (String query : queries) {
+            KeyboardLayoutQuery q = KeyboardLayoutQuery.of(query);
+            assertEquals(query, q.getQuery());
+            assertEquals(query.isEmpty() ? "" : KeyboardConverter.convertQwertyToHangul(query), q.getHangul(), query);
+            assertEquals(query.isEmpty() ? "" : KeyboardConverter.convertHangulToQwerty(query), q.getQwerty(), query);
+        }
+        assertEquals(Arrays.asList("dkssud", "안녕"), KeyboardLayoutQuery.of("dkssud").interpretations());
+        assertEquals(Arrays.asList("안녕", "dkssud"), KeyboardLayoutQuery.of("안녕").interpretations());
+        assertEquals(Arrays.asList("123"), KeyboardLayoutQuery.of("123").interpretations());
+    }
+
+    @Test
+    @DisplayName("모든 해석으로 초성 색인을 검색한다")
+    void search() {
+        ChoseongIndex index = ChoseongIndex.build(Arrays.asList("안녕하세요", "apple", "dkssud", "사과"));
+        assertArrayEquals(new int[]{0, 2}, KeyboardLayoutQuery.of("dkssud").search(index));
+        assertArrayEquals(new int[]{0}, KeyboardLayoutQuery.of("ㅇㄴ").search(index));
+        assertArrayEquals(new int[]{1}, KeyboardLayoutQuery.of("ㅁㅔㅔㅣㄷ").search(index));
+        assertArrayEquals(new int[]{3}, KeyboardLayoutQuery.of("tr").search(index));
+        assertArrayEquals(new int[]{0}, KeyboardLayoutQuery.of("dkssud").search(index, 1));
+    }
+
+    @Test
+    @DisplayName("모든 해석으로 자동완성을 합쳐 가중치 순서로 반환한다")
+    void complete() {
+        HangulAutocomplete autocomplete = HangulAutocomplete.builder()
+                .add("안녕하세요", 10)
+                .add("안경", 30)
+                .add("dkssud", 20)
+                .add("apple", 5)
+                .build();
+        assertEquals(Arrays.asList("안경", "dkssud", "안녕하세요"), KeyboardLayoutQuery.of("dks").complete(autocomplete, 10));
+        assertEquals(Arrays.asList("dkssud"), KeyboardLayoutQuery.of("dkssu").complete(autocomplete, 1));
+        assertEquals(Arrays.asList("dkssud", "안녕하세요"), KeyboardLayoutQuery.of("안녀").complete(autocomplete, 10));
+        assertEquals(Arrays.asList("apple"), KeyboardLayoutQuery.of("ㅁㅔ").complete(autocomplete, 10));
+        assertEquals(Arrays.asList("안경", "dkssud", "안녕하세요", "apple"), KeyboardLayoutQuery.of("").complete(autocomplete, 10));
+    }
+}
@@ -0,0 +1,36 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntHashMapTest {
+
+    @Test
+    @DisplayName("확장 후에도 모든 값을 찾는다")
+    void putAndGet() {
+        LongIntHashMap map = new LongIntHashMap(1);
+        for (int i = 1; i <= 10000; i++) {
+            map.put(i * 31L << 20, i);
+        }
+        map.put(31L << 20, -5);
+        assertEquals(10000, map.size());
+        assertEquals(-5, map.get(31L << 20));
+        for (int i = 2; i <= 10000; i++) {
+            assertEquals(i, map.get(i * 31L << 20));
+        }
+        assertEquals(-1, map.get(7L));
+    }
+
+    @Test
+    @DisplayName("키 0은 저장할 수 없고 찾으면 -1")
+    void zeroKey() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        assertThrows(IllegalArgumentException.class, () -> map.put(0L, 1));
+        assertEquals(-1, map.get(0L));
+        map.put(5L, 0);
+        assertEquals(0, map.get(5L));
+        assertEquals(-1, map.get(0L));
+    }
+}
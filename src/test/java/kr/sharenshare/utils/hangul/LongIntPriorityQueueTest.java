@@ -0,0 +1,51 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntPriorityQueueTest {
+
+    @Test
+    @DisplayName("우선순위가 높은 것부터, 같으면 값이 작은 것부터 꺼낸다")
+    void order() {
+        LongIntPriorityQueue queue = new LongIntPriorityQueue(1);
+        queue.push(5, 3);
+        queue.push(9, 1);
+        queue.push(5, -2);
+        queue.push(1, 0);
+        queue.push(9, 0);
+        assertEquals(5, queue.size());
+        assertEquals(9, queue.peekPriority());
+        assertEquals(0, queue.pop());
+        assertEquals(1, queue.pop());
+        assertEquals(-2, queue.pop());
+        assertEquals(3, queue.pop());
+        assertEquals(0, queue.pop());
+        assertTrue(queue.isEmpty());
+        assertThrows(IllegalStateException.class, queue::pop);
+    }
+
+    @Test
+    @DisplayName("무작위 입력도 정렬된 순서로 꺼낸다")
+    void random() {
+        Random random = new Random(10);
+        LongIntPriorityQueue queue = new LongIntPriorityQueue(4);
+        for (int i = 0; i < 1000; i++) {
+            queue.push(random.nextInt(50), i);
+        }
+        long previous = Long.MAX_VALUE;
+        while (!queue.isEmpty()) {
+            long priority = queue.peekPriority();
+            queue.pop();
+            assertTrue(priority <= previous);
+            previous = priority;
+        }
+        queue.push(1, 1);
+        queue.clear();
+        assertTrue(queue.isEmpty());
+    }
+}
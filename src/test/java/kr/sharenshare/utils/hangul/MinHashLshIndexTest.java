@@ -0,0 +1,58 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MinHashLshIndex 테스트")
+class MinHashLshIndexTest {
+
+    @Test
+    @DisplayName("받침이나 띄어쓰기만 다른 제목을 찾음")
+    void findsNearDuplicates() {
+        MinHashLshIndex index = MinHashLshIndex.create(JamoMinHash.create(3, 64, 7), 32);
+        assertEquals(0, index.add("닭갈비 맛집"));
+        assertEquals(1, index.add("바다 전망 호텔"));
+        assertEquals(2, index.add("닭 갈비맛집"));
+
+        assertArrayEquals(new int[]{0, 2}, index.findSimilar("닭갈빗 맛집", 0.5));
+        assertArrayEquals(new int[]{1}, index.findSimilar("바다전망 호텔", 0.9));
+        assertArrayEquals(new int[0], index.findSimilar("서울 지하철 노선도", 0.5));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @DisplayName("후보는 한 띠라도 같은 문서")
+    void candidates() {
+        MinHashLshIndex index = MinHashLshIndex.create(JamoMinHash.create(), 16);
+        index.add("사과나무");
+        index.add("사과나무");
+        assertArrayEquals(new int[]{0, 1}, index.candidates("사과나무"));
+    }
+
+    @Test
+    @DisplayName("페이지를 넘는 많은 문서도 등록")
+    void manyDocuments() {
+        JamoMinHash minHash = JamoMinHash.create(3, 16, 1);
+        MinHashLshIndex index = MinHashLshIndex.create(minHash, 8);
+        for (int i = 0; i < 10000; i++) {
+            index.add("상품 " + i);
+        }
+        int[] signature = minHash.signature("상품 9876");
+        int[] similar = index.findSimilar(signature, 1.0);
+        assertArrayEquals(new int[]{9876}, similar);
+        assertEquals(1.0, index.similarity(9876, signature));
+    }
+
+    @Test
+    @DisplayName("잘못된 인자는 예외")
+    void invalid() {
+        JamoMinHash minHash = JamoMinHash.create(3, 64, 0);
+        assertThrows(IllegalArgumentException.class, () -> MinHashLshIndex.create(minHash, 5));
+        assertThrows(IllegalArgumentException.class, () -> MinHashLshIndex.create(null, 4));
+        MinHashLshIndex index = MinHashLshIndex.create(minHash, 16);
+        assertThrows(IllegalArgumentException.class, () -> index.add(new int[3]));
+        assertThrows(IllegalArgumentException.class, () -> index.similarity(0, new int[64]));
+    }
+}
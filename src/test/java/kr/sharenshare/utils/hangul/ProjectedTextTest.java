@@ -0,0 +1,52 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProjectedText 테스트")
+class ProjectedTextTest {
+
+    @Test
+    @DisplayName("자모 구간을 원문 구간으로 되돌림")
+    void disassembledRange() {
+        ProjectedText projected = Hangul.disassembleWithOffsets("닭고기 먹자");
+        assertEquals("ㄷㅏㄹㄱㄱㅗㄱㅣ ㅁㅓㄱㅈㅏ", projected.getText());
+        assertEquals("닭고기 먹자", projected.getSource());
+
+        int start = projected.getText().indexOf("ㄱㅗㄱ");
+        int end = start + 3;
+        assertEquals("고기", projected.getSource().substring(projected.sourceStart(start), projected.sourceEnd(end)));
+    }
+
+    @Test
+    @DisplayName("글자 중간에서 끝나는 구간은 그 글자 전체를 포함")
+    void partialSyllable() {
+        ProjectedText projected = Hangul.disassembleWithOffsets("닭");
+        assertEquals(0, projected.sourceStart(0));
+        assertEquals(1, projected.sourceEnd(2));
+        assertEquals(0, projected.sourceEnd(0));
+        assertEquals(1, projected.sourceStart(projected.length()));
+    }
+
+    @Test
+    @DisplayName("초성 위치는 원문 위치와 같음")
+    void choseong() {
+        ProjectedText projected = Hangul.getChoseongWithOffsets("프론트엔드");
+        assertEquals("ㅍㄹㅌㅇㄷ", projected.toString());
+        for (int i = 0; i < projected.length(); i++) {
+            assertEquals(i, projected.sourceIndex(i));
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 입력은 예외")
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> Hangul.disassembleWithOffsets(null));
+        assertThrows(IllegalArgumentException.class, () -> Hangul.getChoseongWithOffsets(null));
+        ProjectedText projected = Hangul.disassembleWithOffsets("");
+        assertEquals(0, projected.length());
+        assertThrows(IllegalArgumentException.class, () -> projected.sourceIndex(0));
+    }
+}
@@ -0,0 +1,152 @@
+package kr.sharenshare.utils.hangul;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PronunciationExceptions 테스트")
+class PronunciationExceptionsTest {
+
+    @Test
+    @DisplayName("기본 사전은 PronunciationConstants의 예외 단어를 담음")
+    void defaults() {
+        PronunciationExceptions exceptions = PronunciationExceptions.defaults();
+        assertEquals(6, exceptions.size());
+        assertEquals("깬닙", exceptions.get("깻잎"));
+        assertEquals("저녁", exceptions.get("전역"));
+        assertNull(exceptions.get("깻"));
+        assertNull(exceptions.get("깻잎들"));
+    }
+
+    @Test
+    @DisplayName("문장 안의 예외 단어를 바꾸고 나머지에 규칙을 적용")
+    void replacesInsideSentence() {
+        PronunciationExceptions exceptions = PronunciationExceptions.defaults();
+        assertEquals("깬닙 나문닙", StandardizePronunciation.standardize("깻잎 나뭇잎", true, exceptions));
+        assertEquals("깬닙쩐 궁물", StandardizePronunciation.standardize("깻잎전 국물", true, exceptions));
+        assertEquals("궁물", StandardizePronunciation.standardize("국물", true, exceptions));
+        assertEquals("", StandardizePronunciation.standardize(null, true, exceptions));
+        assertEquals(StandardizePronunciation.standardize("나뭇잎"),
+                StandardizePronunciation.standardize("나뭇잎", true, exceptions));
+    }
+
+    @Test
+    @DisplayName("바꾼 단어와 뒤 음절 사이에도 규칙을 적용")
+    void rulesAtWordBoundary() {
+        PronunciationExceptions exceptions = PronunciationExceptions.defaults();
+        assertEquals("깬니플 머걷따", StandardizePronunciation.standardize("깻잎을 먹었다", true, exceptions));
+        assertEquals("나문니피", StandardizePronunciation.standardize("나뭇잎이", true, exceptions));
+        assertEquals("깬닙또", StandardizePronunciation.standardize("깻잎도", true, exceptions));
+        assertEquals("깬닙도", StandardizePronunciation.standardize("깻잎도", false, exceptions));
+        assertEquals("깬님만", StandardizePronunciation.standardize("깻잎만", true, exceptions));
+        assertEquals("압깬닙", StandardizePronunciation.standardize("앞깻잎", true, exceptions));
+        assertEquals("깬님나문닙", StandardizePronunciation.standardize("깻잎나뭇잎", true, exceptions));
+    }
+
+    @Test
+    @DisplayName("단일어 예외는 어절 전체일 때만 바꿈")
+    void wholeWordOnly() {
+        PronunciationExceptions exceptions = PronunciationExceptions.defaults();
+        assertEquals("저녁", StandardizePronunciation.standardize("전역", true, exceptions));
+        assertEquals("그 저녁", StandardizePronunciation.standardize("그 전역", true, exceptions));
+        assertEquals(StandardizePronunciation.standardize("안전역"),
+                StandardizePronunciation.standardize("안전역", true, exceptions));
+        assertEquals(StandardizePronunciation.standardize("완전역전"),
+                StandardizePronunciation.standardize("완전역전", true, exceptions));
+        assertEquals(StandardizePronunciation.standardize("전역을"),
+                StandardizePronunciation.standardize("전역을", true, exceptions));
+        assertEquals("안쩐녁", StandardizePronunciation.standardize("안전역", true, exceptions));
+
+        // 단어 전체만 바꾸는 항목이 더 길면 그 안의 짧은 항목을 사용
+        Map<String, String> map = new HashMap<>();
+        map.put("가나", "A");
+        map.put("가나다", "B");
+        PronunciationExceptions wholeWords = PronunciationExceptions.of(map, Collections.singleton("가나다"));
+        assertEquals("B", StandardizePronunciation.standardize("가나다", true, wholeWords));
+        assertEquals("A다라 B", StandardizePronunciation.standardize("가나다라 가나다", true, wholeWords));
+        assertEquals("B", wholeWords.get("가나다"));
+    }
+
+    @Test
+    @DisplayName("겹치는 단어는 왼쪽부터 가장 긴 단어를 사용하고 발음 길이가 달라도 됨")
+    void longestMatch() {
+        Map<String, String> map = new HashMap<>();
+        map.put("가나", "A");
+        map.put("가나다", "BBBB");
+        map.put("다라", "C");
+        PronunciationExceptions exceptions = PronunciationExceptions.of(map);
+        assertEquals("BBBB라", StandardizePronunciation.standardize("가나다라", true, exceptions));
+        assertEquals("A A", StandardizePronunciation.standardize("가나 가나", true, exceptions));
+        assertEquals("궁물C", StandardizePronunciation.standardize("국물다라", true, exceptions));
+    }
+
+    @Test
+    @DisplayName("파일과 스트림에서 읽음")
+    void load(@TempDir Path dir) throws IOException {
+        String text = "# 사이시옷\n깻잎\t깬닙\n\n뒷윷\t뒨뉻\n깻잎\t깬닢\n";
+        Path path = dir.resolve("exceptions.tsv");
+        Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+
+        PronunciationExceptions fromFile = PronunciationExceptions.load(path);
+        assertEquals(2, fromFile.size());
+        assertEquals("깬닢", fromFile.get("깻잎"));
+        assertEquals("뒨뉻", fromFile.get("뒷윷"));
+
+        PronunciationExceptions fromStream = PronunciationExceptions.load(
+                new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+        assertEquals("깬닢", fromStream.get("깻잎"));
+
+        assertThrows(IOException.class, () -> PronunciationExceptions.load(new StringReader("깻잎 깬닙\n")));
+        assertThrows(IOException.class, () -> PronunciationExceptions.load(new StringReader("\t깬닙\n")));
+    }
+
+    @Test
+    @DisplayName("많은 단어도 모두 찾음")
+    void manyEntries() {
+        Map<String, String> map = new HashMap<>();
+        String[] keys = new String[100000];
+        for (int i = 0; i < keys.length; i++) {
+            StringBuilder key = new StringBuilder();
+            for (int n = i; ; n /= 400) {
+                key.append(Hangul.assemble(n % 19, (n / 19) % 21, 0));
+                if (n < 400) {
+                    break;
+                }
+            }
+            keys[i] = key.toString();
+            map.put(keys[i], "값" + i);
+        }
+        PronunciationExceptions exceptions = PronunciationExceptions.of(map);
+        assertEquals(map.size(), exceptions.size());
+        for (String key : Arrays.copyOf(keys, 2000)) {
+            assertEquals(map.get(key), exceptions.get(key));
+        }
+        assertNull(exceptions.get("없는단어"));
+    }
+
+    @Test
+    @DisplayName("빈 사전과 잘못된 입력")
+    void invalid() {
+        PronunciationExceptions empty = PronunciationExceptions.of(new HashMap<String, String>());
+        assertEquals(0, empty.size());
+        assertEquals("궁물", StandardizePronunciation.standardize("국물", true, empty));
+
+        Map<String, String> map = new HashMap<>();
+        map.put("", "가");
+        assertThrows(IllegalArgumentException.class, () -> PronunciationExceptions.of(map));
+        assertThrows(IllegalArgumentException.class, () -> StandardizePronunciation.standardize("국물", true, null));
+    }
+}
@@ -0,0 +1,24 @@
+package kr.sharenshare.utils.hangul;
+
+import java.util.Random;
+
+/**
+ * 무작위 비교 테스트용 문자열 생성
+ */
+final class RandomStrings {
+
+    private RandomStrings() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+
+    /**
+     * alphabet의 문자를 length개 무작위로 고른 문자열
+     */
+    static String of(Random random, String alphabet, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+}
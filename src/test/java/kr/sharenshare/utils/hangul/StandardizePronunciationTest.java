@@ -502,4 +502,44 @@ class StandardizePronunciationTest {
             assertEquals("저녁", StandardizePronunciation.standardize("전역"));
         }
     }
+
+    @Nested
+    @DisplayName("음절 배열 엔진은 기존 규칙과 같은 결과를 낸다")
+    class EngineTest {
+
+        @Test
+        @DisplayName("한글이 아닌 문자와 공백은 제자리에 남고 어절마다 규칙을 적용한다")
+        void keepsNonHangulPositions() {
+            assertEquals("구지 1바치 a", StandardizePronunciation.standardize("굳이 1밭이 a"));
+            assertEquals("궁물,", StandardizePronunciation.standardize("국물,"));
+        }
+
+        @Test
+        @DisplayName("긴 입력과 반복 호출에도 같은 결과를 낸다")
+        void reusesBuffers() {
+            StringBuilder input = new StringBuilder();
+            StringBuilder expected = new StringBuilder();
+            for (int i = 0; i < 200; i++) {
+                input.append("신라 ");
+                expected.append("실라 ");
+            }
+            assertEquals(expected.toString(), StandardizePronunciation.standardize(input.toString()));
+            assertEquals("실라", StandardizePronunciation.standardize("신라"));
+        }
+
+        @Test
+        @DisplayName("자모 이름(제16항)과 일반 음절 경계가 한 입력에 섞여도 규칙을 모두 적용한다")
+        void mixesJamoNamesAndTransitions() {
+            assertEquals("디그시", StandardizePronunciation.standardize("디귿이"));
+            assertEquals("피으블 국빱", StandardizePronunciation.standardize("피읖을 국밥", true));
+            assertEquals("피으블 국밥", StandardizePronunciation.standardize("피읖을 국밥", false));
+            assertEquals("달기 국빱", StandardizePronunciation.standardize("닭이 국밥", true));
+        }
+
+        @Test
+        @DisplayName("자모 이름 뒤 겹받침이 초성으로 옮겨지면 기존과 같이 예외를 던진다")
+        void clusterMovedToChoseong() {
+            assertThrows(IllegalArgumentException.class, () -> StandardizePronunciation.standardize("1기역값이"));
+        }
+    }
 }